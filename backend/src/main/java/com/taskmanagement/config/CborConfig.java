@@ -0,0 +1,84 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Compact binary responses for large task payloads, negotiated with Accept: application/cbor
+ * (request bodies too, with Content-Type: application/cbor). JSON stays the default.
+ * Beyond dropping the text encoding, null fields are left out and dates are written as numbers:
+ * LocalDate as epoch days and timestamps as epoch milliseconds.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Spring Boot's builder, so the CBOR mapper shares the JSON mapper's modules and settings
+        ObjectMapper mapper = builder
+            .factory(new CBORFactory())
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            .build();
+        // Registered last, so it takes precedence over the JavaTimeModule's LocalDate handling
+        mapper.registerModule(new SimpleModule("EpochDayModule")
+            .addSerializer(LocalDate.class, new EpochDaySerializer())
+            .addDeserializer(LocalDate.class, new EpochDayDeserializer()));
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+
+    static class EpochDaySerializer extends StdSerializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    /**
+     * Reads epoch days, and ISO strings as the JSON API does
+     */
+    static class EpochDayDeserializer extends StdDeserializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(parser.getLongValue());
+            }
+            return LocalDateDeserializer.INSTANCE.deserialize(parser, context);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskmanagement.dto.response.TaskView;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Defaults for the shared Jackson mappers (JSON, and CBOR which is built from the same builder)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Serialize every task property unless a response sets its own sparse fieldset filters
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+            .addFilter(TaskView.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica routing, enabled by setting app.datasource.replica.jdbc-url
+ * Without it, Spring Boot's single auto-configured pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.jdbc-url:}'.isEmpty()")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Primary pool, built from spring.datasource.* as Spring Boot would build it
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * The data source JPA, JdbcTemplate and Flyway use; Flyway runs outside read-only transactions, so on the primary
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${app.datasource.routing.read-your-writes-window:0s}") Duration readYourWritesWindow,
+            @Value("${app.datasource.routing.replica-retry-after:30s}") Duration replicaRetryAfter) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, readYourWritesWindow, replicaRetryAfter));
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskmanagement.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else.
+ * Reads stay on the primary while the replica refuses connections and for the rest of a request that
+ * committed a write. With a read-your-writes window, that request's response also carries
+ * {@link #READ_YOUR_WRITES_HEADER} with the end of the window (epoch milliseconds); later requests of the
+ * same client that send it back read from the primary until then, while other clients keep using the replica.
+ * Must sit behind a LazyConnectionDataSourceProxy, so the connection is fetched once the transaction's
+ * read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String READ_YOUR_WRITES_HEADER = "X-Read-Your-Writes-Until";
+
+    private static final String WROTE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".wrote";
+    private static final String PRIMARY_READS_KEY = ReplicaRoutingDataSource.class.getName() + ".primaryReads";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesMillis;
+    private final long retryAfterNanos;
+
+    private volatile long replicaRetryAt = System.nanoTime();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    Duration readYourWritesWindow, Duration replicaRetryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+        this.retryAfterNanos = replicaRetryAfter.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            trackWrite();
+            return primary.getConnection();
+        }
+
+        // Rows read from a lagging replica must not be put into the shared second-level cache
+        TransactionSynchronizationManager.getResourceMap().values().stream()
+            .filter(EntityManagerHolder.class::isInstance)
+            .map(holder -> ((EntityManagerHolder) holder).getEntityManager().unwrap(Session.class))
+            .forEach(session -> session.setCacheMode(CacheMode.GET));
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaRetryAt = System.nanoTime() + retryAfterNanos;
+            log.warn("Read replica unavailable, reading from the primary for the next {} s: {}",
+                Duration.ofNanos(retryAfterNanos).toSeconds(), e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections are taken from the configured pools");
+    }
+
+    /**
+     * Keep the current read-only transaction on the primary, for reads that must not see replica lag
+     * (e.g. versions handed out by the primary). Must be called before the transaction's first query;
+     * without replica routing it has no effect.
+     */
+    public static void readFromPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_READS_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(PRIMARY_READS_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_READS_KEY);
+            }
+        });
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_READS_KEY)) {
+            return false;
+        }
+
+        if (System.nanoTime() - replicaRetryAt < 0) {
+            return false;
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request == null || (request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null
+            && !withinReadYourWritesWindow(request));
+    }
+
+    /**
+     * Whether the client sent back the end of a window that has not passed yet; values beyond the
+     * configured window cannot come from this data source and are ignored
+     */
+    private boolean withinReadYourWritesWindow(RequestAttributes request) {
+        if (readYourWritesMillis <= 0 || !(request instanceof ServletRequestAttributes servletRequest)) {
+            return false;
+        }
+
+        String until = servletRequest.getRequest().getHeader(READ_YOUR_WRITES_HEADER);
+        if (until == null) {
+            return false;
+        }
+        try {
+            long remaining = Long.parseLong(until.trim()) - System.currentTimeMillis();
+            return remaining > 0 && remaining <= readYourWritesMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Once a write transaction commits, later reads of the same request go to the primary, and the client
+     * is told how long its next requests should too
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (request == null) {
+                    return;
+                }
+                request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+                if (readYourWritesMillis > 0 && request instanceof ServletRequestAttributes servletRequest) {
+                    HttpServletResponse response = servletRequest.getResponse();
+                    if (response != null && !response.isCommitted()) {
+                        response.setHeader(READ_YOUR_WRITES_HEADER,
+                            Long.toString(System.currentTimeMillis() + readYourWritesMillis));
+                    }
+                }
+            }
+        });
+    }
+}
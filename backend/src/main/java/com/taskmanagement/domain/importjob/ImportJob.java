@@ -42,6 +42,9 @@ public class ImportJob {
     @Column(name = "error_report_path", columnDefinition = "TEXT")
     private String errorReportPath;
 
+    @Column(name = "data_version")
+    private Long dataVersion;
+
     @PrePersist
     protected void onCreate() {
         if (executedAt == null) {
@@ -0,0 +1,66 @@
+package com.taskmanagement.domain.importjob;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A task or dependency change made by a committed import job
+ * For TASK_UPDATED, the prior_* columns hold the values the import overwrote
+ */
+@Entity
+@Table(name = "import_job_change")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobChange {
+
+    public static final String TASK_CREATED = "TASK_CREATED";
+    public static final String TASK_UPDATED = "TASK_UPDATED";
+    public static final String DEPENDENCY_CREATED = "DEPENDENCY_CREATED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_job_id", nullable = false)
+    private Long importJobId;
+
+    @Column(name = "change_type", nullable = false, length = 24)
+    private String changeType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "prior_name", length = 255)
+    private String priorName;
+
+    @Column(name = "prior_assignee", length = 120)
+    private String priorAssignee;
+
+    @Column(name = "prior_start_date")
+    private LocalDate priorStartDate;
+
+    @Column(name = "prior_end_date")
+    private LocalDate priorEndDate;
+
+    @Column(name = "prior_progress")
+    private Short priorProgress;
+
+    @Column(name = "prior_status", length = 32)
+    private String priorStatus;
+
+    @Column(name = "prior_parent_task_id")
+    private Long priorParentTaskId;
+
+    @Column(name = "prior_is_milestone")
+    private Boolean priorIsMilestone;
+
+    @Column(name = "prior_notes", columnDefinition = "TEXT")
+    private String priorNotes;
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.domain.importjob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportJobChangeRepository extends JpaRepository<ImportJobChange, Long>, ImportJobChangeRepositoryCustom {
+
+    long countByImportJobIdAndChangeType(Long importJobId, String changeType);
+
+    @Query("SELECT c.entityId FROM ImportJobChange c WHERE c.importJobId = :importJobId " +
+           "AND c.changeType = :changeType")
+    List<Long> findEntityIds(@Param("importJobId") Long importJobId, @Param("changeType") String changeType);
+
+    @Query("SELECT DISTINCT t.project.id FROM Task t WHERE t.id IN (" +
+           "SELECT c.entityId FROM ImportJobChange c WHERE c.importJobId = :importJobId " +
+           "AND c.changeType IN ('TASK_CREATED', 'TASK_UPDATED'))")
+    List<Long> findAffectedProjectIds(@Param("importJobId") Long importJobId);
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.domain.importjob;
+
+import java.util.List;
+
+public interface ImportJobChangeRepositoryCustom {
+
+    /**
+     * Insert changes for a job using JDBC batches, bypassing the persistence context
+     */
+    void insertAll(Long importJobId, List<ImportJobChange> changes);
+
+    /**
+     * Find the tasks a rollback of a job would overwrite or delete that changed after the given version:
+     * tasks the job created or updated, tasks later put under its created tasks, and the tasks of
+     * dependencies it created or that were later added to its created tasks
+     *
+     * @param dataVersion Project data version the job was committed at
+     * @return Task IDs in ascending order; empty if the job can be rolled back safely
+     */
+    List<Long> findTasksChangedSince(Long importJobId, long dataVersion);
+
+    /**
+     * Delete the dependencies created by a job
+     *
+     * @return Number of dependencies deleted
+     */
+    int deleteCreatedDependencies(Long importJobId);
+
+    /**
+     * Restore the values that a job overwrote on existing tasks
+     *
+     * @param syncVersion Project data version the restored tasks are stamped with
+     * @return Number of tasks restored
+     */
+    int restoreUpdatedTasks(Long importJobId, long syncVersion);
+
+    /**
+     * Delete the tasks created by a job; tasks created later under them are detached first
+     *
+     * @param syncVersion Project data version the detached tasks are stamped with
+     * @return Number of tasks deleted
+     */
+    int deleteCreatedTasks(Long importJobId, long syncVersion);
+}
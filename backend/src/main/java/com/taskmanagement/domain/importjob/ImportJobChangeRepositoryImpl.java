@@ -0,0 +1,124 @@
+package com.taskmanagement.domain.importjob;
+
+import com.taskmanagement.domain.task.Task;
+import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.util.SecondLevelCacheEvictor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+public class ImportJobChangeRepositoryImpl implements ImportJobChangeRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO import_job_change (import_job_id, change_type, entity_id, prior_name, prior_assignee, " +
+            "prior_start_date, prior_end_date, prior_progress, prior_status, prior_parent_task_id, " +
+            "prior_is_milestone, prior_notes) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String CHANGED_IDS_SQL =
+            "SELECT c.entity_id FROM import_job_change c WHERE c.import_job_id = ? AND c.change_type = ?";
+
+    private static final String TOUCHED_TASK_IDS_SQL =
+            "SELECT c.entity_id FROM import_job_change c WHERE c.import_job_id = ? " +
+            "AND c.change_type IN ('TASK_CREATED', 'TASK_UPDATED')";
+
+    // Rows the rollback would overwrite or delete: the job's tasks and the tasks later put under its created
+    // tasks, its dependencies and the dependencies later added to its created tasks
+    private static final String CHANGED_SINCE_SQL =
+            "SELECT t.id FROM task t WHERE t.sync_version > ? AND (t.id IN (" + TOUCHED_TASK_IDS_SQL + ") " +
+            "OR t.parent_task_id IN (" + CHANGED_IDS_SQL + ")) " +
+            "UNION " +
+            "SELECT d.task_id FROM task_dependency d WHERE d.sync_version > ? AND (d.id IN (" + CHANGED_IDS_SQL + ") " +
+            "OR d.task_id IN (" + CHANGED_IDS_SQL + ") OR d.predecessor_task_id IN (" + CHANGED_IDS_SQL + ")) " +
+            "ORDER BY 1";
+
+    private static final String DELETE_DEPENDENCIES_SQL =
+            "DELETE FROM task_dependency WHERE id IN (" + CHANGED_IDS_SQL + ")";
+
+    // If a task code appeared on several rows, the earliest change holds the pre-import values
+    private static final String RESTORE_TASKS_SQL =
+            "UPDATE task SET (name, assignee, start_date, end_date, progress, status, parent_task_id, " +
+            "is_milestone, notes, updated_at, sync_version, version) = (" +
+            "SELECT c.prior_name, c.prior_assignee, c.prior_start_date, c.prior_end_date, c.prior_progress, " +
+            "c.prior_status, c.prior_parent_task_id, c.prior_is_milestone, c.prior_notes, CURRENT_TIMESTAMP, ?, " +
+            "task.version + 1 " +
+            "FROM import_job_change c WHERE c.id = (" +
+            "SELECT MIN(f.id) FROM import_job_change f " +
+            "WHERE f.import_job_id = ? AND f.change_type = 'TASK_UPDATED' AND f.entity_id = task.id)) " +
+            "WHERE id IN (" + CHANGED_IDS_SQL + ") RETURNING id";
+
+    private static final String DETACH_CHILDREN_SQL =
+            "UPDATE task SET parent_task_id = NULL, updated_at = CURRENT_TIMESTAMP, sync_version = ?, " +
+            "version = version + 1 " +
+            "WHERE parent_task_id IN (" + CHANGED_IDS_SQL + ") " +
+            "AND id NOT IN (" + CHANGED_IDS_SQL + ") RETURNING id";
+
+    private static final String DELETE_TASKS_SQL =
+            "DELETE FROM task WHERE id IN (" + CHANGED_IDS_SQL + ") RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheEvictor cacheEvictor;
+
+    public ImportJobChangeRepositoryImpl(JdbcTemplate jdbcTemplate, SecondLevelCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    @Override
+    public void insertAll(Long importJobId, List<ImportJobChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, importJobId);
+            ps.setString(2, change.getChangeType());
+            ps.setLong(3, change.getEntityId());
+            ps.setString(4, change.getPriorName());
+            ps.setString(5, change.getPriorAssignee());
+            ps.setObject(6, change.getPriorStartDate() != null ? Date.valueOf(change.getPriorStartDate()) : null, Types.DATE);
+            ps.setObject(7, change.getPriorEndDate() != null ? Date.valueOf(change.getPriorEndDate()) : null, Types.DATE);
+            ps.setObject(8, change.getPriorProgress(), Types.SMALLINT);
+            ps.setString(9, change.getPriorStatus());
+            ps.setObject(10, change.getPriorParentTaskId(), Types.BIGINT);
+            ps.setObject(11, change.getPriorIsMilestone(), Types.BOOLEAN);
+            ps.setString(12, change.getPriorNotes());
+        });
+    }
+
+    @Override
+    public List<Long> findTasksChangedSince(Long importJobId, long dataVersion) {
+        return jdbcTemplate.queryForList(CHANGED_SINCE_SQL, Long.class,
+                dataVersion, importJobId, importJobId, ImportJobChange.TASK_CREATED,
+                dataVersion, importJobId, ImportJobChange.DEPENDENCY_CREATED, importJobId, ImportJobChange.TASK_CREATED,
+                importJobId, ImportJobChange.TASK_CREATED);
+    }
+
+    @Override
+    public int deleteCreatedDependencies(Long importJobId) {
+        return jdbcTemplate.update(DELETE_DEPENDENCIES_SQL, importJobId, ImportJobChange.DEPENDENCY_CREATED);
+    }
+
+    @Override
+    public int restoreUpdatedTasks(Long importJobId, long syncVersion) {
+        List<Long> restoredIds = jdbcTemplate.queryForList(RESTORE_TASKS_SQL, Long.class,
+                syncVersion, importJobId, importJobId, ImportJobChange.TASK_UPDATED);
+        cacheEvictor.evict(Task.class, restoredIds);
+        return restoredIds.size();
+    }
+
+    @Override
+    public int deleteCreatedTasks(Long importJobId, long syncVersion) {
+        List<Long> detachedIds = jdbcTemplate.queryForList(DETACH_CHILDREN_SQL, Long.class,
+                syncVersion, importJobId, ImportJobChange.TASK_CREATED, importJobId, ImportJobChange.TASK_CREATED);
+        List<Long> deletedIds = jdbcTemplate.queryForList(DELETE_TASKS_SQL, Long.class,
+                importJobId, ImportJobChange.TASK_CREATED);
+        cacheEvictor.evict(Task.class, detachedIds);
+        cacheEvictor.evict(Task.class, deletedIds);
+        cacheEvictor.evictQueryRegion(TaskRepository.TASK_CODE_CACHE_REGION);
+        return deletedIds.size();
+    }
+}
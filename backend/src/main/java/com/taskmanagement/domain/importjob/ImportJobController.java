@@ -1,39 +1,55 @@
 package com.taskmanagement.domain.importjob;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.ReplicaRoutingDataSource;
+import com.taskmanagement.domain.importjob.parser.ParsedUpload;
+import com.taskmanagement.domain.importjob.parser.ValidationListener;
 import com.taskmanagement.dto.response.ApiResponse;
+import com.taskmanagement.dto.response.DryRunEvent;
 import com.taskmanagement.dto.response.ImportJobResponse;
+import com.taskmanagement.dto.response.ValidationError;
 import com.taskmanagement.util.ErrorCsvGenerator;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * REST controller for import job operations
  */
 @RestController
 @RequestMapping("/api/import-jobs")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER)
 public class ImportJobController {
 
     private final ImportJobService importJobService;
     private final ImportJobRepository importJobRepository;
     private final ErrorCsvGenerator errorCsvGenerator;
+    private final ObjectMapper objectMapper;
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
 
     public ImportJobController(ImportJobService importJobService,
                                ImportJobRepository importJobRepository,
-                               ErrorCsvGenerator errorCsvGenerator) {
+                               ErrorCsvGenerator errorCsvGenerator,
+                               ObjectMapper objectMapper) {
         this.importJobService = importJobService;
         this.importJobRepository = importJobRepository;
         this.errorCsvGenerator = errorCsvGenerator;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -60,6 +76,94 @@ public class ImportJobController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * POST /api/import-jobs/dry-run/stream?projectId={projectId}&maxErrors={n} - Streamed dry-run
+     * Writes NDJSON events (started, error, progress, complete) while validation runs.
+     * With maxErrors > 0, at most that many errors are reported and validation stops at the next one;
+     * the complete event's aborted flag tells whether validation stopped before the end of the file.
+     *
+     * @param file      CSV or Excel file to validate
+     * @param projectId Target project ID
+     * @param maxErrors Error threshold for early abort (default: 0, validate the whole file)
+     * @return NDJSON stream of dry-run events
+     */
+    @PostMapping(value = "/dry-run/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDryRun(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("projectId") Long projectId,
+            @RequestParam(value = "maxErrors", defaultValue = "0") int maxErrors
+    ) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File is required");
+        }
+
+        // Parse before streaming so upload errors still map to regular error responses
+        ParsedUpload upload = importJobService.parseUpload(file, projectId);
+        int totalRows = upload.getRows().size();
+
+        StreamingResponseBody body = out -> {
+            int[] errorCount = {0};
+            writeEvent(out, DryRunEvent.builder().type("started").totalRows(totalRows).build());
+
+            try {
+                DryRunEvent complete = importJobService.streamDryRun(upload, projectId, maxErrors,
+                        new ValidationListener() {
+                            @Override
+                            public boolean onError(ValidationError error) {
+                                errorCount[0]++;
+                                writeEvent(out, DryRunEvent.builder().type("error").error(error).build());
+                                return true;
+                            }
+
+                            @Override
+                            public void onProgress(int rowsValidated, int rows) {
+                                writeEvent(out, DryRunEvent.builder()
+                                        .type("progress")
+                                        .rowsValidated(rowsValidated)
+                                        .totalRows(rows)
+                                        .errorCount(errorCount[0])
+                                        .build());
+                                flush(out);
+                            }
+                        });
+
+                writeEvent(out, complete);
+            } catch (UncheckedIOException e) {
+                // Client disconnected; nothing more can be written
+                return;
+            } catch (RuntimeException e) {
+                writeEvent(out, DryRunEvent.builder().type("failed").message(e.getMessage()).build());
+            }
+            flush(out);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Write one NDJSON line
+     */
+    private void writeEvent(OutputStream out, DryRunEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * GET /api/import-jobs/{id} - Get import job status and summary
      *
@@ -72,6 +176,47 @@ public class ImportJobController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * POST /api/import-jobs/{id}/rollback - Revert a committed import job
+     *
+     * @param id Import job ID
+     * @return Import job response with status ROLLED_BACK
+     */
+    @PostMapping("/{id}/rollback")
+    public ApiResponse<ImportJobResponse> rollbackImportJob(@PathVariable Long id) {
+        ImportJobResponse response = importJobService.rollbackImport(id);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * GET /api/import-jobs/{id}/validation-errors?field=&errorCode=&page=0&size=100 - Page through job errors
+     *
+     * @param id        Import job ID
+     * @param field     Optional field filter
+     * @param errorCode Optional error code filter
+     * @param page      Zero-based page number (default: 0)
+     * @param size      Page size (default: 100, max: 1000)
+     * @return Errors of the requested page, with paging info in meta
+     */
+    @GetMapping("/{id}/validation-errors")
+    public ApiResponse<List<ValidationError>> getValidationErrors(
+            @PathVariable Long id,
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String errorCode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > 1000) {
+            throw new IllegalArgumentException("Size must be between 1 and 1000");
+        }
+
+        Page<ValidationError> errors = importJobService.getImportJobErrors(id, field, errorCode, page, size);
+        return ApiResponse.success(errors);
+    }
+
     /**
      * GET /api/import-jobs/{id}/errors - Download error report CSV
      *
@@ -0,0 +1,41 @@
+package com.taskmanagement.domain.importjob;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A validation or import error recorded for an import job
+ */
+@Entity
+@Table(name = "import_job_error")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_job_id", nullable = false)
+    private Long importJobId;
+
+    @Column(name = "line_number")
+    private Integer lineNumber;
+
+    @Column(name = "field", length = 64)
+    private String field;
+
+    @Column(name = "invalid_value", columnDefinition = "TEXT")
+    private String value;
+
+    @Column(name = "error_code", length = 64)
+    private String errorCode;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.domain.importjob;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobErrorRepository extends JpaRepository<ImportJobError, Long>, ImportJobErrorRepositoryCustom {
+
+    @Query("SELECT e FROM ImportJobError e WHERE e.importJobId = :importJobId " +
+           "AND (:field IS NULL OR e.field = :field) " +
+           "AND (:errorCode IS NULL OR e.errorCode = :errorCode)")
+    Page<ImportJobError> findByImportJobIdFiltered(
+        @Param("importJobId") Long importJobId,
+        @Param("field") String field,
+        @Param("errorCode") String errorCode,
+        Pageable pageable
+    );
+
+    long countByImportJobId(Long importJobId);
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.domain.importjob;
+
+import com.taskmanagement.dto.response.ValidationError;
+
+import java.util.List;
+
+public interface ImportJobErrorRepositoryCustom {
+
+    /**
+     * Insert errors for a job using JDBC batches, bypassing the persistence context
+     */
+    void insertAll(Long importJobId, List<ValidationError> errors);
+}
@@ -0,0 +1,42 @@
+package com.taskmanagement.domain.importjob;
+
+import com.taskmanagement.dto.response.ValidationError;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+public class ImportJobErrorRepositoryImpl implements ImportJobErrorRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO import_job_error (import_job_id, line_number, field, invalid_value, error_code, error_message) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImportJobErrorRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Long importJobId, List<ValidationError> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, errors, BATCH_SIZE, (ps, error) -> {
+            ps.setLong(1, importJobId);
+            if (error.getLineNumber() != null) {
+                ps.setInt(2, error.getLineNumber());
+            } else {
+                ps.setNull(2, Types.INTEGER);
+            }
+            ps.setString(3, error.getField());
+            ps.setString(4, error.getValue());
+            ps.setString(5, error.getErrorCode());
+            ps.setString(6, error.getErrorMessage());
+        });
+    }
+}
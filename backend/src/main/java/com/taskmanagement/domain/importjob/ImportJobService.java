@@ -4,18 +4,32 @@ import com.taskmanagement.domain.importjob.parser.CsvParser;
 import com.taskmanagement.domain.importjob.parser.ExcelParser;
 import com.taskmanagement.domain.importjob.parser.ImportValidator;
 import com.taskmanagement.domain.importjob.parser.ParsedTaskData;
+import com.taskmanagement.domain.importjob.parser.ParsedUpload;
+import com.taskmanagement.domain.importjob.parser.UploadSource;
+import com.taskmanagement.domain.importjob.parser.ValidationListener;
 import com.taskmanagement.domain.project.Project;
 import com.taskmanagement.domain.project.ProjectRepository;
 import com.taskmanagement.domain.task.Task;
 import com.taskmanagement.domain.task.TaskDependency;
 import com.taskmanagement.domain.task.TaskDependencyRepository;
 import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.domain.task.TaskTombstoneRepository;
+import com.taskmanagement.dto.response.DryRunEvent;
 import com.taskmanagement.dto.response.ImportJobResponse;
+import com.taskmanagement.dto.response.TaskChangeMessage;
 import com.taskmanagement.dto.response.ValidationError;
 import com.taskmanagement.util.ErrorCsvGenerator;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -33,13 +47,24 @@ import java.util.*;
 public class ImportJobService {
 
     private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final ImportJobChangeRepository importJobChangeRepository;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
     private final CsvParser csvParser;
     private final ExcelParser excelParser;
     private final ImportValidator validator;
     private final ErrorCsvGenerator errorCsvGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxDecompressedBytes;
+
+    // Number of errors inlined in the import response; the rest are served paginated
+    private static final int ERROR_PREVIEW_LIMIT = 100;
+
+    private static final long MAX_UPLOAD_BYTES = 10 * 1024 * 1024; // 10MB limit
 
     private static final DateTimeFormatter[] DATE_FORMATTERS = {
             DateTimeFormatter.ofPattern("yyyy-MM-dd"),
@@ -49,21 +74,33 @@ public class ImportJobService {
     };
 
     public ImportJobService(ImportJobRepository importJobRepository,
+                            ImportJobErrorRepository importJobErrorRepository,
+                            ImportJobChangeRepository importJobChangeRepository,
                             ProjectRepository projectRepository,
                             TaskRepository taskRepository,
                             TaskDependencyRepository taskDependencyRepository,
+                            TaskTombstoneRepository tombstoneRepository,
                             CsvParser csvParser,
                             ExcelParser excelParser,
                             ImportValidator validator,
-                            ErrorCsvGenerator errorCsvGenerator) {
+                            ErrorCsvGenerator errorCsvGenerator,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.import.max-decompressed-size:200MB}") DataSize maxDecompressedSize) {
         this.importJobRepository = importJobRepository;
+        this.importJobErrorRepository = importJobErrorRepository;
+        this.importJobChangeRepository = importJobChangeRepository;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.taskDependencyRepository = taskDependencyRepository;
+        this.tombstoneRepository = tombstoneRepository;
         this.csvParser = csvParser;
         this.excelParser = excelParser;
         this.validator = validator;
         this.errorCsvGenerator = errorCsvGenerator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxDecompressedBytes = maxDecompressedSize.toBytes();
     }
 
     /**
@@ -82,21 +119,9 @@ public class ImportJobService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
 
-        // Determine file type and parse
-        String filename = file.getOriginalFilename();
-        String sourceType;
-        List<ParsedTaskData> parsedData;
-
-        if (filename != null && filename.toLowerCase().endsWith(".csv")) {
-            sourceType = "CSV";
-            parsedData = csvParser.parse(file);
-        } else if (filename != null && (filename.toLowerCase().endsWith(".xlsx") ||
-                filename.toLowerCase().endsWith(".xls"))) {
-            sourceType = "Excel";
-            parsedData = excelParser.parse(file);
-        } else {
-            throw new IllegalArgumentException("Unsupported file type. Only CSV and Excel (.xlsx) files are supported");
-        }
+        ParsedUpload upload = parseUpload(file);
+        String sourceType = upload.getSourceType();
+        List<ParsedTaskData> parsedData = upload.getRows();
 
         // Validate parsed data
         List<ValidationError> validationErrors = validator.validate(parsedData, projectId);
@@ -118,47 +143,159 @@ public class ImportJobService {
         // If dry-run or validation failed, return results without committing
         if (dryRun || !validationErrors.isEmpty()) {
             importJob.setStatus(dryRun ? "DRY_RUN" : "FAILED");
-            importJob.setSummary(summaryToMap(summary));
-
-            // Generate error CSV if there are errors
-            if (!validationErrors.isEmpty()) {
-                try {
-                    String errorCsvPath = errorCsvGenerator.generateErrorCsv(validationErrors, importJob.getId());
-                    importJob.setErrorReportPath(errorCsvPath);
-                } catch (IOException e) {
-                    // Log error but don't fail the import job
-                    System.err.println("Failed to generate error CSV: " + e.getMessage());
-                }
-            }
-
-            importJob = importJobRepository.save(importJob);
-
-            return ImportJobResponse.builder()
-                    .id(importJob.getId())
-                    .sourceType(importJob.getSourceType())
-                    .status(importJob.getStatus())
-                    .executedAt(importJob.getExecutedAt().toLocalDateTime())
-                    .summary(summary)
-                    .errors(validationErrors)
-                    .build();
+            summary.setErrorCount(validationErrors.size());
+            return completeImportJob(importJob, summary, validationErrors, List.of());
         }
 
         // Execute actual import (two-phase: tasks first, then dependencies)
-        ImportResult result = executeActualImport(parsedData, project);
+        long syncVersion = projectRepository.nextDataVersion(projectId);
+        ImportResult result = executeActualImport(parsedData, project, syncVersion);
+        refreshRollups(result.getChanges(), syncVersion);
+        projectRepository.refreshSummary(projectId);
+        publishProjectReload(projectId, syncVersion);
 
         summary.setSuccessfulRows(parsedData.size() - result.getFailedRows().size());
         summary.setFailedRows(result.getFailedRows().size());
         summary.setTasksCreated(result.getTasksCreated());
         summary.setTasksUpdated(result.getTasksUpdated());
         summary.setDependenciesCreated(result.getDependenciesCreated());
+        summary.setErrorCount(result.getErrors().size());
 
         importJob.setStatus(result.getFailedRows().isEmpty() ? "SUCCESS" : "PARTIAL");
+        importJob.setDataVersion(syncVersion);
+        return completeImportJob(importJob, summary, result.getErrors(), result.getChanges());
+    }
+
+    /**
+     * Dry-run an upload while reporting errors and progress to the listener as they are found
+     * At most maxErrors errors are reported; validation stops at the next one found after that, so a file with
+     * exactly maxErrors errors still counts as fully validated. The DRY_RUN job is recorded either way.
+     * Not transactional: the listener may write to a slow client, so only the reference lookup and
+     * the recording of the job run in (short) transactions of their own.
+     *
+     * @param upload    Parsed upload (see {@link #parseUpload(MultipartFile, Long)})
+     * @param projectId Target project ID
+     * @param maxErrors Error threshold for early abort (0 or less: validate the whole file)
+     * @param listener  Receives errors and progress; returning false from onError also stops validation
+     * @return Complete event with the error count, whether validation stopped early and the import job
+     *         (without inlined errors)
+     */
+    public DryRunEvent streamDryRun(ParsedUpload upload, Long projectId, int maxErrors,
+                                    ValidationListener listener) {
+        List<ValidationError> validationErrors = new ArrayList<>();
+        Set<String> existingTaskCodes = validator.resolveExternalReferences(upload.getRows(), projectId);
+
+        boolean completed = validator.validate(upload.getRows(), projectId, existingTaskCodes, new ValidationListener() {
+            @Override
+            public boolean onError(ValidationError error) {
+                if (maxErrors > 0 && validationErrors.size() >= maxErrors) {
+                    // An error beyond the threshold: stop, leaving it and the rest unreported
+                    return false;
+                }
+                validationErrors.add(error);
+                return listener.onError(error);
+            }
+
+            @Override
+            public void onProgress(int rowsValidated, int totalRows) {
+                listener.onProgress(rowsValidated, totalRows);
+            }
+        });
+
+        ImportJob importJob = new ImportJob();
+        importJob.setSourceType(upload.getSourceType());
+        importJob.setExecutedAt(OffsetDateTime.now());
+        importJob.setStatus("DRY_RUN");
+
+        ImportJobResponse.ImportSummary summary = ImportJobResponse.ImportSummary.builder()
+                .totalRows(upload.getRows().size())
+                .successfulRows(0)
+                .failedRows(validationErrors.size())
+                .tasksCreated(0)
+                .tasksUpdated(0)
+                .dependenciesCreated(0)
+                .errorCount(validationErrors.size())
+                .build();
+
+        ImportJobResponse response = transactionTemplate.execute(status ->
+                completeImportJob(importJob, summary, validationErrors, List.of()));
+        response.setErrors(null);
+
+        return DryRunEvent.builder()
+                .type("complete")
+                .errorCount(validationErrors.size())
+                .aborted(!completed)
+                .importJob(response)
+                .build();
+    }
+
+    /**
+     * Check the target project and parse an upload
+     * Parsing happens up front so the multipart content is consumed before any response streaming starts
+     *
+     * @param file      Uploaded CSV or Excel file, optionally compressed
+     * @param projectId Target project ID
+     * @return Parsed rows and source type
+     */
+    public ParsedUpload parseUpload(MultipartFile file, Long projectId) throws IOException {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        return parseUpload(file);
+    }
+
+    /**
+     * Detect the file type and parse the upload, decompressing it on the fly if needed
+     */
+    private ParsedUpload parseUpload(MultipartFile file) throws IOException {
+        String filename = file.getOriginalFilename();
+
+        if (filename == null || !UploadSource.isSupportedUpload(filename)) {
+            throw new IllegalArgumentException("Unsupported file type. Only CSV and Excel (.xlsx) files " +
+                    "are supported, optionally compressed as .gz or .zip");
+        }
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+
+        if (file.getSize() > MAX_UPLOAD_BYTES) {
+            throw new IllegalArgumentException("File size exceeds 10MB limit");
+        }
+
+        // Compressed uploads are decompressed on the fly straight into the parser
+        try (UploadSource source = UploadSource.open(filename, file.getInputStream(), maxDecompressedBytes)) {
+            if (source.isCsv()) {
+                return new ParsedUpload("CSV", csvParser.parse(source.getInputStream()));
+            } else if (source.isExcel()) {
+                return new ParsedUpload("Excel", excelParser.parse(source.getInputStream()));
+            } else {
+                throw new IllegalArgumentException("Unsupported file type. Only CSV and Excel (.xlsx) files are supported");
+            }
+        }
+    }
+
+    /**
+     * Save the job, persist its errors and changes, and build the response with the first errors only
+     */
+    private ImportJobResponse completeImportJob(ImportJob importJob,
+                                                ImportJobResponse.ImportSummary summary,
+                                                List<ValidationError> errors,
+                                                List<ImportJobChange> changes) {
         importJob.setSummary(summaryToMap(summary));
 
-        // Generate error CSV if there are errors
-        if (!result.getErrors().isEmpty()) {
+        // Save first so errors, changes and the error report can reference the job ID
+        importJob = importJobRepository.save(importJob);
+
+        // Record what was created or overwritten so the job can be rolled back
+        importJobChangeRepository.insertAll(importJob.getId(), changes);
+
+        if (!errors.isEmpty()) {
+            importJobErrorRepository.insertAll(importJob.getId(), errors);
+
+            // Generate error CSV
             try {
-                String errorCsvPath = errorCsvGenerator.generateErrorCsv(result.getErrors(), importJob.getId());
+                String errorCsvPath = errorCsvGenerator.generateErrorCsv(errors, importJob.getId());
                 importJob.setErrorReportPath(errorCsvPath);
             } catch (IOException e) {
                 // Log error but don't fail the import job
@@ -166,22 +303,20 @@ public class ImportJobService {
             }
         }
 
-        importJob = importJobRepository.save(importJob);
-
         return ImportJobResponse.builder()
                 .id(importJob.getId())
                 .sourceType(importJob.getSourceType())
                 .status(importJob.getStatus())
                 .executedAt(importJob.getExecutedAt().toLocalDateTime())
                 .summary(summary)
-                .errors(result.getErrors())
+                .errors(errors.size() > ERROR_PREVIEW_LIMIT ? errors.subList(0, ERROR_PREVIEW_LIMIT) : errors)
                 .build();
     }
 
     /**
      * Execute the actual import with upsert logic
      */
-    private ImportResult executeActualImport(List<ParsedTaskData> parsedData, Project project) {
+    private ImportResult executeActualImport(List<ParsedTaskData> parsedData, Project project, long syncVersion) {
         ImportResult result = new ImportResult();
 
         // Phase 1: Import/update tasks
@@ -189,7 +324,7 @@ public class ImportJobService {
 
         for (ParsedTaskData data : parsedData) {
             try {
-                Task task = upsertTask(data, project, result);
+                Task task = upsertTask(data, project, syncVersion, result);
                 if (data.getTaskCode() != null) {
                     taskCodeToTaskMap.put(data.getTaskCode(), task);
                 }
@@ -226,8 +361,15 @@ public class ImportJobService {
                     try {
                         Task predecessorTask = findTaskByCode(trimmed, project.getId(), taskCodeToTaskMap);
                         if (predecessorTask != null) {
-                            createDependencyIfNotExists(task, predecessorTask, dependencyType);
-                            result.incrementDependenciesCreated();
+                            TaskDependency dependency = createDependencyIfNotExists(task, predecessorTask, dependencyType,
+                                    syncVersion);
+                            if (dependency != null) {
+                                result.incrementDependenciesCreated();
+                                result.getChanges().add(ImportJobChange.builder()
+                                        .changeType(ImportJobChange.DEPENDENCY_CREATED)
+                                        .entityId(dependency.getId())
+                                        .build());
+                            }
                         }
                     } catch (Exception e) {
                         result.getErrors().add(ValidationError.builder()
@@ -248,7 +390,7 @@ public class ImportJobService {
     /**
      * Upsert task: create if new, update if exists (matched by project_id + task_code)
      */
-    private Task upsertTask(ParsedTaskData data, Project project, ImportResult result) {
+    private Task upsertTask(ParsedTaskData data, Project project, long syncVersion, ImportResult result) {
         Task task;
         boolean isUpdate = false;
 
@@ -261,6 +403,9 @@ public class ImportJobService {
             task = new Task();
         }
 
+        // Keep the values about to be overwritten so the job can be rolled back
+        ImportJobChange change = isUpdate ? snapshotTask(task) : null;
+
         // Set/update fields
         task.setProject(project);
         if (data.getTaskCode() != null) {
@@ -304,17 +449,42 @@ public class ImportJobService {
             task.setParentTask(parentTask);
         }
 
+        task.setSyncVersion(syncVersion);
         task = taskRepository.save(task);
 
         if (isUpdate) {
             result.incrementTasksUpdated();
+            result.getChanges().add(change);
         } else {
             result.incrementTasksCreated();
+            result.getChanges().add(ImportJobChange.builder()
+                    .changeType(ImportJobChange.TASK_CREATED)
+                    .entityId(task.getId())
+                    .build());
         }
 
         return task;
     }
 
+    /**
+     * Capture the current values of an existing task before the import overwrites them
+     */
+    private ImportJobChange snapshotTask(Task task) {
+        return ImportJobChange.builder()
+                .changeType(ImportJobChange.TASK_UPDATED)
+                .entityId(task.getId())
+                .priorName(task.getName())
+                .priorAssignee(task.getAssignee())
+                .priorStartDate(task.getStartDate())
+                .priorEndDate(task.getEndDate())
+                .priorProgress(task.getProgress())
+                .priorStatus(task.getStatus())
+                .priorParentTaskId(task.getParentTask() != null ? task.getParentTask().getId() : null)
+                .priorIsMilestone(task.getIsMilestone())
+                .priorNotes(task.getNotes())
+                .build();
+    }
+
     /**
      * Find task by code, checking both newly imported tasks and database
      */
@@ -330,8 +500,11 @@ public class ImportJobService {
 
     /**
      * Create dependency if it doesn't already exist
+     *
+     * @return The created dependency, or null if it already existed
      */
-    private void createDependencyIfNotExists(Task task, Task predecessorTask, String type) {
+    private TaskDependency createDependencyIfNotExists(Task task, Task predecessorTask, String type,
+                                                       long syncVersion) {
         // Check if dependency already exists
         boolean exists = taskDependencyRepository
                 .findByTaskIdAndPredecessorTaskId(task.getId(), predecessorTask.getId())
@@ -342,8 +515,10 @@ public class ImportJobService {
             dependency.setTask(task);
             dependency.setPredecessorTask(predecessorTask);
             dependency.setType(type);
-            taskDependencyRepository.save(dependency);
+            dependency.setSyncVersion(syncVersion);
+            return taskDependencyRepository.save(dependency);
         }
+        return null;
     }
 
     /**
@@ -376,6 +551,38 @@ public class ImportJobService {
         return lower.equals("true") || lower.equals("1") || lower.equals("yes");
     }
 
+    /**
+     * Refresh the summary task rollups along the ancestor paths of the imported tasks,
+     * including the former parents of tasks the import moved
+     */
+    private void refreshRollups(List<ImportJobChange> changes, long syncVersion) {
+        Set<Long> rollupRoots = new HashSet<>();
+        for (ImportJobChange change : changes) {
+            if (ImportJobChange.TASK_CREATED.equals(change.getChangeType())
+                    || ImportJobChange.TASK_UPDATED.equals(change.getChangeType())) {
+                rollupRoots.add(change.getEntityId());
+            }
+            if (change.getPriorParentTaskId() != null) {
+                rollupRoots.add(change.getPriorParentTaskId());
+            }
+        }
+
+        // Imported tasks were saved through JPA; write them before the rollup SQL reads them
+        taskRepository.flush();
+        taskRepository.refreshRollups(rollupRoots, syncVersion);
+    }
+
+    /**
+     * Tell the project's live viewers to reload once the import commits
+     */
+    private void publishProjectReload(Long projectId, long syncVersion) {
+        eventPublisher.publishEvent(TaskChangeMessage.builder()
+                .type(TaskChangeMessage.PROJECT_RELOAD)
+                .projectId(projectId)
+                .version(syncVersion)
+                .build());
+    }
+
     /**
      * Convert ImportSummary to Map for JSON storage
      */
@@ -387,6 +594,7 @@ public class ImportJobService {
         map.put("tasksCreated", summary.getTasksCreated());
         map.put("tasksUpdated", summary.getTasksUpdated());
         map.put("dependenciesCreated", summary.getDependenciesCreated());
+        map.put("errorCount", summary.getErrorCount());
         return map;
     }
 
@@ -408,6 +616,99 @@ public class ImportJobService {
                 .build();
     }
 
+    /**
+     * Roll back a committed import job
+     * Deletes the dependencies and tasks it created and restores the values it overwrote,
+     * using a few set-based statements instead of per-task deletes.
+     * Refused if any of those rows changed after the import, so later edits are never lost.
+     *
+     * @param id Import job ID
+     * @return Import job response with status ROLLED_BACK
+     * @throws ImportRollbackConflictException If tasks the rollback would overwrite or delete changed since
+     */
+    @Transactional
+    public ImportJobResponse rollbackImport(Long id) {
+        ImportJob job = importJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Import job not found with id: " + id));
+
+        if (!"SUCCESS".equals(job.getStatus()) && !"PARTIAL".equals(job.getStatus())) {
+            throw new IllegalStateException("Only committed import jobs can be rolled back. Current status: "
+                    + job.getStatus());
+        }
+
+        // Collected before the created tasks are deleted; an import only touches its target project,
+        // and a job that touched no tasks has nothing to undo
+        List<Long> projectIds = importJobChangeRepository.findAffectedProjectIds(id);
+        if (!projectIds.isEmpty()) {
+            Long projectId = projectIds.get(0);
+            // Writers bump the version under the project row lock, so nothing can change after the check
+            long syncVersion = projectRepository.nextDataVersion(projectId);
+
+            if (job.getDataVersion() == null) {
+                throw new IllegalStateException("Import job " + id + " was committed without a data version; "
+                        + "changes made since cannot be detected, so it cannot be rolled back");
+            }
+            List<Long> changedTaskIds = importJobChangeRepository.findTasksChangedSince(id, job.getDataVersion());
+            if (!changedTaskIds.isEmpty()) {
+                throw new ImportRollbackConflictException(id, changedTaskIds);
+            }
+
+            List<Long> createdTaskIds = importJobChangeRepository.findEntityIds(id, ImportJobChange.TASK_CREATED);
+            List<Long> updatedTaskIds = importJobChangeRepository.findEntityIds(id, ImportJobChange.TASK_UPDATED);
+
+            // Parents the job's tasks hang under now; they lose those children when the job is undone
+            Set<Long> touchedTaskIds = new HashSet<>(createdTaskIds);
+            touchedTaskIds.addAll(updatedTaskIds);
+            List<Long> currentParentIds = taskRepository.findExternalParentIds(touchedTaskIds);
+
+            // Tombstones first, so delta sync clients learn about the deletes
+            tombstoneRepository.insertForDependencies(projectId, syncVersion,
+                    importJobChangeRepository.findEntityIds(id, ImportJobChange.DEPENDENCY_CREATED));
+            tombstoneRepository.insertForTasks(projectId, syncVersion, createdTaskIds);
+
+            importJobChangeRepository.deleteCreatedDependencies(id);
+            importJobChangeRepository.restoreUpdatedTasks(id, syncVersion);
+            importJobChangeRepository.deleteCreatedTasks(id, syncVersion);
+
+            Set<Long> rollupRoots = new HashSet<>(updatedTaskIds);
+            rollupRoots.addAll(currentParentIds);
+            taskRepository.refreshRollups(rollupRoots, syncVersion);
+            projectRepository.refreshSummary(projectId);
+            publishProjectReload(projectId, syncVersion);
+        }
+
+        job.setStatus("ROLLED_BACK");
+        importJobRepository.save(job);
+
+        return getImportJob(id);
+    }
+
+    /**
+     * Get a page of errors recorded for an import job, in file order
+     *
+     * @param id        Import job ID
+     * @param field     Optional field filter (e.g. "start_date")
+     * @param errorCode Optional error code filter (e.g. "REFERENCE_NOT_FOUND")
+     * @param page      Zero-based page number
+     * @param size      Page size
+     * @return Page of validation errors
+     */
+    public Page<ValidationError> getImportJobErrors(Long id, String field, String errorCode, int page, int size) {
+        if (!importJobRepository.existsById(id)) {
+            throw new EntityNotFoundException("Import job not found with id: " + id);
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("lineNumber", "id"));
+        return importJobErrorRepository.findByImportJobIdFiltered(id, field, errorCode, pageRequest)
+                .map(error -> ValidationError.builder()
+                        .lineNumber(error.getLineNumber())
+                        .field(error.getField())
+                        .value(error.getValue())
+                        .errorCode(error.getErrorCode())
+                        .errorMessage(error.getErrorMessage())
+                        .build());
+    }
+
     /**
      * Convert Map to ImportSummary
      */
@@ -419,6 +720,7 @@ public class ImportJobService {
                 .tasksCreated(getIntValue(map, "tasksCreated"))
                 .tasksUpdated(getIntValue(map, "tasksUpdated"))
                 .dependenciesCreated(getIntValue(map, "dependenciesCreated"))
+                .errorCount(getIntValue(map, "errorCount"))
                 .build();
     }
 
@@ -438,6 +740,7 @@ public class ImportJobService {
     private static class ImportResult {
         private final List<Integer> failedRows = new ArrayList<>();
         private final List<ValidationError> errors = new ArrayList<>();
+        private final List<ImportJobChange> changes = new ArrayList<>();
         private int tasksCreated = 0;
         private int tasksUpdated = 0;
         private int dependenciesCreated = 0;
@@ -450,6 +753,10 @@ public class ImportJobService {
             return errors;
         }
 
+        public List<ImportJobChange> getChanges() {
+            return changes;
+        }
+
         public int getTasksCreated() {
             return tasksCreated;
         }
@@ -0,0 +1,23 @@
+package com.taskmanagement.domain.importjob;
+
+import java.util.List;
+
+/**
+ * Thrown when an import job cannot be rolled back because tasks it created or overwrote have changed since
+ */
+public class ImportRollbackConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Long> changedTaskIds;
+
+    public ImportRollbackConflictException(Long importJobId, List<Long> changedTaskIds) {
+        super("Import job " + importJobId + " cannot be rolled back: tasks " + changedTaskIds
+                + " were changed after the import");
+        this.changedTaskIds = List.copyOf(changedTaskIds);
+    }
+
+    public List<Long> getChangedTaskIds() {
+        return changedTaskIds;
+    }
+}
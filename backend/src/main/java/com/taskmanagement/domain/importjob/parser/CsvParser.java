@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -38,10 +39,22 @@ public class CsvParser {
             throw new IllegalArgumentException("File size exceeds 10MB limit");
         }
 
+        return parse(file.getInputStream());
+    }
+
+    /**
+     * Parse CSV content from a stream, reading one record at a time
+     * Used directly for decompressed uploads whose size is only known while reading
+     *
+     * @param inputStream CSV content (UTF-8, optional BOM)
+     * @return List of parsed task data with line numbers
+     * @throws IOException If stream cannot be read
+     */
+    public List<ParsedTaskData> parse(InputStream inputStream) throws IOException {
         List<ParsedTaskData> result = new ArrayList<>();
 
         try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024)) {
 
             // Remove BOM if present
             reader.mark(1);
@@ -53,20 +66,18 @@ public class CsvParser {
                     .withSkipLines(0)
                     .build()) {
 
-                List<String[]> allRows = csvReader.readAll();
-
-                if (allRows.isEmpty()) {
+                // First row is header
+                String[] headers = csvReader.readNext();
+                if (headers == null) {
                     throw new IllegalArgumentException("CSV file is empty");
                 }
-
-                // First row is header
-                String[] headers = allRows.get(0);
                 Map<String, Integer> columnMap = buildColumnMap(headers);
 
-                // Parse data rows (skip header)
-                for (int i = 1; i < allRows.size(); i++) {
-                    String[] row = allRows.get(i);
-                    int lineNumber = i + 1; // Line number in file (1-indexed)
+                // Parse data rows as they are read
+                String[] row;
+                int lineNumber = 1; // Line number in file (1-indexed), header is line 1
+                while ((row = csvReader.readNext()) != null) {
+                    lineNumber++;
 
                     // Skip empty rows
                     if (isEmptyRow(row)) {
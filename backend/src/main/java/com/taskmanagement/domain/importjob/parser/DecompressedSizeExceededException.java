@@ -0,0 +1,15 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a compressed upload once its decompressed content exceeds the configured limit
+ */
+public class DecompressedSizeExceededException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DecompressedSizeExceededException(long maxBytes) {
+        super("Decompressed file exceeds " + (maxBytes / (1024 * 1024)) + "MB limit");
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -33,9 +34,21 @@ public class ExcelParser {
             throw new IllegalArgumentException("File size exceeds 10MB limit");
         }
 
+        return parse(file.getInputStream());
+    }
+
+    /**
+     * Parse Excel content from a stream
+     * Used directly for workbooks extracted from compressed uploads
+     *
+     * @param inputStream Excel (.xlsx) content
+     * @return List of parsed task data with line numbers
+     * @throws IOException If stream cannot be read
+     */
+    public List<ParsedTaskData> parse(InputStream inputStream) throws IOException {
         List<ParsedTaskData> result = new ArrayList<>();
 
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
+        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
             // Read first sheet
             Sheet sheet = workbook.getSheetAt(0);
 
@@ -1,15 +1,19 @@
 package com.taskmanagement.domain.importjob.parser;
 
-import com.taskmanagement.domain.task.Task;
+import com.taskmanagement.domain.project.ProjectDataVersion;
+import com.taskmanagement.domain.project.ProjectRepository;
 import com.taskmanagement.domain.task.TaskRepository;
 import com.taskmanagement.dto.response.ValidationError;
+import com.taskmanagement.util.BloomFilter;
 import com.taskmanagement.util.CircularDependencyDetector;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Validates parsed task data before import
@@ -19,6 +23,7 @@ import java.util.*;
 public class ImportValidator {
 
     private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
     private final CircularDependencyDetector circularDependencyDetector;
 
     private static final DateTimeFormatter[] DATE_FORMATTERS = {
@@ -36,9 +41,33 @@ public class ImportValidator {
             "FS", "SS", "FF", "SF"
     );
 
+    // Up to this many unresolved references are checked with a direct IN lookup;
+    // beyond it, a Bloom filter over the project's codes discards definite misses first
+    static final int EXACT_LOOKUP_THRESHOLD = 1000;
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final int MAX_CACHED_FILTERS = 16;
+
+    // Rows between progress callbacks
+    private static final int PROGRESS_INTERVAL = 500;
+
+    // Least recently used task code filters, keyed by project id; a filter is valid for one data version only
+    private final Map<Long, CachedFilter> taskCodeFilters = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedFilter> eldest) {
+                    return size() > MAX_CACHED_FILTERS;
+                }
+            });
+
     public ImportValidator(TaskRepository taskRepository,
+                           ProjectRepository projectRepository,
                            CircularDependencyDetector circularDependencyDetector) {
         this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
         this.circularDependencyDetector = circularDependencyDetector;
     }
 
@@ -49,38 +78,172 @@ public class ImportValidator {
      * @param projectId     Project ID for reference validation
      * @return List of validation errors (empty if all valid)
      */
+    @Transactional(readOnly = true)
     public List<ValidationError> validate(List<ParsedTaskData> parsedData, Long projectId) {
         List<ValidationError> errors = new ArrayList<>();
+        validate(parsedData, projectId, resolveExternalReferences(parsedData, projectId), errors::add);
+        return errors;
+    }
+
+    /**
+     * Determine which parent and predecessor codes referenced by the file, but not defined in it,
+     * exist in the project. This is the only database access of validation.
+     *
+     * @param parsedData List of parsed task data
+     * @param projectId  Project ID for reference validation
+     * @return Referenced codes that exist in the project
+     */
+    @Transactional(readOnly = true)
+    public Set<String> resolveExternalReferences(List<ParsedTaskData> parsedData, Long projectId) {
+        return resolveExistingTaskCodes(
+                collectExternalReferences(parsedData, collectTaskCodes(parsedData)), projectId);
+    }
 
-        // Build map of task codes for reference validation
-        Set<String> taskCodesInFile = new HashSet<>();
-        Map<String, ParsedTaskData> taskCodeMap = new HashMap<>();
+    /**
+     * Validate parsed task data, reporting errors to the listener as they are found
+     * Runs no queries, so the listener may write to slow consumers without holding a connection.
+     *
+     * @param parsedData        List of parsed task data
+     * @param projectId         Project ID for reference validation
+     * @param existingTaskCodes Result of {@link #resolveExternalReferences(List, Long)}
+     * @param listener          Receives errors and progress; returning false from onError stops validation
+     * @return true if all rows were validated, false if the listener stopped validation early
+     */
+    public boolean validate(List<ParsedTaskData> parsedData, Long projectId, Set<String> existingTaskCodes,
+                            ValidationListener listener) {
+        // Build set of task codes for reference validation
+        Set<String> taskCodesInFile = collectTaskCodes(parsedData);
 
+        // Validate each row
+        int rowsValidated = 0;
         for (ParsedTaskData data : parsedData) {
-            if (data.getTaskCode() != null) {
-                taskCodesInFile.add(data.getTaskCode());
-                taskCodeMap.put(data.getTaskCode(), data);
+            for (ValidationError error : validateRow(data, projectId, taskCodesInFile, existingTaskCodes)) {
+                if (!listener.onError(error)) {
+                    return false;
+                }
+            }
+
+            rowsValidated++;
+            if (rowsValidated % PROGRESS_INTERVAL == 0) {
+                listener.onProgress(rowsValidated, parsedData.size());
             }
         }
+        listener.onProgress(rowsValidated, parsedData.size());
 
-        // Get existing task codes in the project
-        List<Task> existingTasks = taskRepository.findByProjectId(projectId);
-        Map<String, Task> existingTaskMap = new HashMap<>();
-        for (Task task : existingTasks) {
-            if (task.getTaskCode() != null) {
-                existingTaskMap.put(task.getTaskCode(), task);
+        // Validate circular dependencies
+        for (ValidationError error : validateCircularDependencies(parsedData, projectId)) {
+            if (!listener.onError(error)) {
+                return false;
             }
         }
 
-        // Validate each row
+        return true;
+    }
+
+    private Set<String> collectTaskCodes(List<ParsedTaskData> parsedData) {
+        Set<String> taskCodes = new HashSet<>();
+
         for (ParsedTaskData data : parsedData) {
-            errors.addAll(validateRow(data, projectId, taskCodesInFile, existingTaskMap));
+            if (data.getTaskCode() != null) {
+                taskCodes.add(data.getTaskCode());
+            }
         }
 
-        // Validate circular dependencies
-        errors.addAll(validateCircularDependencies(parsedData, existingTaskMap, projectId));
+        return taskCodes;
+    }
 
-        return errors;
+    /**
+     * Collect parent and predecessor codes that are not defined in the file
+     */
+    private Set<String> collectExternalReferences(List<ParsedTaskData> parsedData, Set<String> taskCodesInFile) {
+        Set<String> references = new HashSet<>();
+
+        for (ParsedTaskData data : parsedData) {
+            if (data.getParentTaskCode() != null && !taskCodesInFile.contains(data.getParentTaskCode())) {
+                references.add(data.getParentTaskCode());
+            }
+            if (data.getPredecessorTaskCodes() != null) {
+                for (String predecessor : data.getPredecessorTaskCodes().split(",")) {
+                    String trimmed = predecessor.trim();
+                    if (!trimmed.isEmpty() && !taskCodesInFile.contains(trimmed)) {
+                        references.add(trimmed);
+                    }
+                }
+            }
+        }
+
+        return references;
+    }
+
+    /**
+     * Determine which of the referenced codes exist in the project, using code-only queries.
+     * Task entities are never loaded into the persistence context.
+     */
+    private Set<String> resolveExistingTaskCodes(Set<String> references, Long projectId) {
+        if (references.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Collection<String> candidates = references;
+        if (references.size() > EXACT_LOOKUP_THRESHOLD) {
+            BloomFilter existingCodes = getTaskCodeFilter(projectId);
+            candidates = references.stream()
+                    .filter(existingCodes::mightContain)
+                    .toList();
+        }
+
+        // Confirm remaining candidates (including Bloom false positives) with exact lookups
+        Set<String> existing = new HashSet<>();
+        List<String> batch = new ArrayList<>(LOOKUP_BATCH_SIZE);
+        for (String candidate : candidates) {
+            batch.add(candidate);
+            if (batch.size() == LOOKUP_BATCH_SIZE) {
+                existing.addAll(taskRepository.findExistingTaskCodes(projectId, batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            existing.addAll(taskRepository.findExistingTaskCodes(projectId, batch));
+        }
+
+        return existing;
+    }
+
+    /**
+     * Bloom filter over all task codes of the project, rebuilt only when the project's data version
+     * (bumped by every task write) has changed since it was built
+     */
+    private BloomFilter getTaskCodeFilter(Long projectId) {
+        // Read before the codes, so a cached filter is never older than the version it is stored with
+        Long version = projectRepository.findDataVersion(projectId)
+                .map(ProjectDataVersion::getVersion)
+                .orElse(null);
+
+        CachedFilter cached = taskCodeFilters.get(projectId);
+        if (cached != null && cached.version.equals(version)) {
+            return cached.filter;
+        }
+
+        BloomFilter filter = buildTaskCodeFilter(projectId);
+        if (version != null) {
+            taskCodeFilters.put(projectId, new CachedFilter(version, filter));
+        }
+        return filter;
+    }
+
+    /**
+     * Build a Bloom filter over all task codes of the project by streaming the code column
+     */
+    private BloomFilter buildTaskCodeFilter(Long projectId) {
+        long codeCount = taskRepository.countTaskCodesByProjectId(projectId);
+        BloomFilter filter = new BloomFilter((int) Math.min(codeCount, Integer.MAX_VALUE),
+                BLOOM_FALSE_POSITIVE_RATE);
+
+        try (Stream<String> codes = taskRepository.streamTaskCodesByProjectId(projectId)) {
+            codes.forEach(filter::put);
+        }
+
+        return filter;
     }
 
     /**
@@ -88,7 +251,7 @@ public class ImportValidator {
      */
     private List<ValidationError> validateRow(ParsedTaskData data, Long projectId,
                                               Set<String> taskCodesInFile,
-                                              Map<String, Task> existingTaskMap) {
+                                              Set<String> existingTaskCodes) {
         List<ValidationError> errors = new ArrayList<>();
 
         // Validate required fields
@@ -171,7 +334,7 @@ public class ImportValidator {
         // Validate parent_task_code reference
         if (data.getParentTaskCode() != null) {
             if (!taskCodesInFile.contains(data.getParentTaskCode()) &&
-                    !existingTaskMap.containsKey(data.getParentTaskCode())) {
+                    !existingTaskCodes.contains(data.getParentTaskCode())) {
                 errors.add(createError(data.getLineNumber(), "parent_task_code",
                         data.getParentTaskCode(), "REFERENCE_NOT_FOUND",
                         "Parent task code not found in file or database"));
@@ -184,7 +347,7 @@ public class ImportValidator {
             for (String predecessor : predecessors) {
                 String trimmed = predecessor.trim();
                 if (!trimmed.isEmpty()) {
-                    if (!taskCodesInFile.contains(trimmed) && !existingTaskMap.containsKey(trimmed)) {
+                    if (!taskCodesInFile.contains(trimmed) && !existingTaskCodes.contains(trimmed)) {
                         errors.add(createError(data.getLineNumber(), "predecessor_task_codes",
                                 trimmed, "REFERENCE_NOT_FOUND",
                                 "Predecessor task code not found in file or database"));
@@ -210,20 +373,15 @@ public class ImportValidator {
      */
     private List<ValidationError> validateCircularDependencies(
             List<ParsedTaskData> parsedData,
-            Map<String, Task> existingTaskMap,
             Long projectId) {
 
         List<ValidationError> errors = new ArrayList<>();
 
         // Build a temporary dependency graph
+        // Note: This is simplified - existing dependencies from the database are not included,
+        // only the dependencies declared in the import file are validated
         Map<String, List<String>> dependencyGraph = new HashMap<>();
 
-        // Add existing dependencies from database
-        for (Task task : existingTaskMap.values()) {
-            // Note: This is simplified - in reality we'd need to query TaskDependencyRepository
-            // to get all existing dependencies, but for now we'll validate new dependencies
-        }
-
         // Add dependencies from import file
         for (ParsedTaskData data : parsedData) {
             if (data.getTaskCode() != null && data.getPredecessorTaskCodes() != null) {
@@ -355,4 +513,17 @@ public class ImportValidator {
                 .errorMessage(errorMessage)
                 .build();
     }
+
+    /**
+     * Task code filter with the project data version it was built at
+     */
+    private static final class CachedFilter {
+        private final Long version;
+        private final BloomFilter filter;
+
+        private CachedFilter(Long version, BloomFilter filter) {
+            this.version = version;
+            this.filter = filter;
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Rows parsed from an uploaded file, together with the detected source type ("CSV" or "Excel")
+ */
+@Data
+@AllArgsConstructor
+public class ParsedUpload {
+    private String sourceType;
+    private List<ParsedTaskData> rows;
+}
@@ -0,0 +1,146 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Uncompressed view of an uploaded import file
+ * Plain .csv/.xlsx uploads are passed through; .csv.gz and .zip (containing one CSV or Excel file)
+ * are decompressed on the fly so the parser reads the inner file as a stream
+ */
+public class UploadSource implements Closeable {
+
+    private final String filename;
+    private final InputStream inputStream;
+
+    private UploadSource(String filename, InputStream inputStream) {
+        this.filename = filename;
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Open an upload, unwrapping gzip or zip compression based on the file name
+     *
+     * @param filename             Original file name of the upload
+     * @param rawStream            Raw upload stream
+     * @param maxDecompressedBytes Maximum number of bytes the decompressed content may have
+     * @return Source positioned at the start of the uncompressed file
+     * @throws IOException If the compressed stream cannot be read
+     */
+    public static UploadSource open(String filename, InputStream rawStream, long maxDecompressedBytes)
+            throws IOException {
+        String lower = filename.toLowerCase();
+
+        if (lower.endsWith(".gz")) {
+            String innerName = filename.substring(0, filename.length() - ".gz".length());
+            InputStream decompressed = new GZIPInputStream(rawStream, 64 * 1024);
+            return new UploadSource(innerName, new SizeLimitedInputStream(decompressed, maxDecompressedBytes));
+        }
+
+        if (lower.endsWith(".zip")) {
+            ZipInputStream zip = new ZipInputStream(rawStream);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String entryName = entry.getName();
+                if (!entry.isDirectory() && !entryName.startsWith("__MACOSX/") && isSupportedName(entryName)) {
+                    String innerName = entryName.substring(entryName.lastIndexOf('/') + 1);
+                    return new UploadSource(innerName, new SizeLimitedInputStream(zip, maxDecompressedBytes));
+                }
+            }
+            zip.close();
+            throw new IllegalArgumentException("Zip archive does not contain a CSV or Excel (.xlsx) file");
+        }
+
+        return new UploadSource(filename, rawStream);
+    }
+
+    /**
+     * Check whether an uploaded file name is a supported import format, compressed or not
+     */
+    public static boolean isSupportedUpload(String filename) {
+        String lower = filename.toLowerCase();
+        if (lower.endsWith(".gz")) {
+            return isSupportedName(lower.substring(0, lower.length() - ".gz".length()));
+        }
+        return lower.endsWith(".zip") || isSupportedName(lower);
+    }
+
+    /**
+     * Check whether a file name (after decompression) is a supported import format
+     */
+    public static boolean isSupportedName(String filename) {
+        String lower = filename.toLowerCase();
+        return lower.endsWith(".csv") || lower.endsWith(".xlsx") || lower.endsWith(".xls");
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    public boolean isCsv() {
+        return filename.toLowerCase().endsWith(".csv");
+    }
+
+    public boolean isExcel() {
+        String lower = filename.toLowerCase();
+        return lower.endsWith(".xlsx") || lower.endsWith(".xls");
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    /**
+     * Guards against decompression bombs by capping the number of bytes read
+     */
+    private static class SizeLimitedInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private final long maxBytes;
+        private long bytesRead = 0;
+
+        SizeLimitedInputStream(InputStream delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = delegate.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void count(int n) throws DecompressedSizeExceededException {
+            bytesRead += n;
+            if (bytesRead > maxBytes) {
+                throw new DecompressedSizeExceededException(maxBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import com.taskmanagement.dto.response.ValidationError;
+
+/**
+ * Receives validation results as they are found, for progressive (streamed) dry-runs
+ */
+public interface ValidationListener {
+
+    /**
+     * Called for each validation error as soon as it is found
+     *
+     * @return true to continue validating, false to stop early
+     */
+    boolean onError(ValidationError error);
+
+    /**
+     * Called periodically with the number of rows validated so far
+     */
+    default void onProgress(int rowsValidated, int totalRows) {
+    }
+}
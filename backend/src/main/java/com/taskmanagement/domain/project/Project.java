@@ -1,5 +1,6 @@
 package com.taskmanagement.domain.project;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,11 +8,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 @Table(name = "project")
 @Data
 @Builder
@@ -37,6 +42,23 @@ public class Project {
     @Column(name = "status", nullable = false, length = 32)
     private String status = "active";
 
+    // Row version for optimistic locking; the data version bumps below are JDBC updates and leave it alone
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Maintained through ProjectRepository#nextDataVersion, never written by the entity. The JDBC update keeps
+    // the cached project in place, so a cached instance may hold an older value: read it with findDataVersion
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    private Long dataVersion;
+
+    @JsonIgnore
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "data_modified_at", nullable = false, insertable = false, updatable = false)
+    private OffsetDateTime dataModifiedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -1,17 +1,22 @@
 package com.taskmanagement.domain.project;
 
+import com.taskmanagement.config.ReplicaRoutingDataSource;
 import com.taskmanagement.dto.request.CreateProjectRequest;
 import com.taskmanagement.dto.request.UpdateProjectRequest;
 import com.taskmanagement.dto.response.ApiResponse;
+import com.taskmanagement.dto.response.ProjectView;
+import com.taskmanagement.util.VersionETag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER)
 public class ProjectController {
 
     private final ProjectService projectService;
@@ -21,13 +26,14 @@ public class ProjectController {
     }
 
     /**
-     * GET /api/projects - List all projects
+     * GET /api/projects - List all projects with their task statistics (counts by status, overdue, date span,
+     * average progress), read from the materialized summaries in one query
      */
     @GetMapping
-    public ApiResponse<List<Project>> getAllProjects(
+    public ApiResponse<List<ProjectView>> getAllProjects(
         @RequestParam(required = false) String status
     ) {
-        List<Project> projects;
+        List<ProjectView> projects;
         if (status != null) {
             projects = projectService.getProjectsByStatus(status);
         } else {
@@ -66,10 +72,13 @@ public class ProjectController {
 
     /**
      * PATCH /api/projects/{id} - Update project
+     * With If-Match (the project's version), the update only applies if nobody changed the project since;
+     * otherwise it answers 409
      */
     @PatchMapping("/{id}")
-    public ApiResponse<Project> updateProject(
+    public ResponseEntity<ApiResponse<Project>> updateProject(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdateProjectRequest request
     ) {
         Project projectUpdates = Project.builder()
@@ -79,8 +88,10 @@ public class ProjectController {
             .status(request.getStatus())
             .build();
 
-        Project updatedProject = projectService.updateProject(id, projectUpdates);
-        return ApiResponse.success(updatedProject);
+        Project updatedProject = projectService.updateProject(id, projectUpdates, VersionETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+            .eTag(VersionETag.of(updatedProject.getVersion()))
+            .body(ApiResponse.success(updatedProject));
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.taskmanagement.domain.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Version of a project's task and dependency data, used as a validator for conditional GETs
+ */
+@Data
+@AllArgsConstructor
+public class ProjectDataVersion {
+    private Long projectId;
+    private Long version;
+    private OffsetDateTime modifiedAt;
+
+    /**
+     * Weak validator: the same version is served in several representations (JSON/CBOR, sparse fieldsets, gzip),
+     * and a strong ETag would also keep the servlet container from compressing the response
+     */
+    public String getETag() {
+        return "W/\"" + projectId + "-" + version + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return modifiedAt.toInstant().toEpochMilli();
+    }
+}
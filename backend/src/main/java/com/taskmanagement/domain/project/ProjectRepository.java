@@ -1,14 +1,26 @@
 package com.taskmanagement.domain.project;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
     List<Project> findByStatus(String status);
 
     List<Project> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT new com.taskmanagement.domain.project.ProjectDataVersion(p.id, p.dataVersion, p.dataModifiedAt) " +
+           "FROM Project p WHERE p.id = :projectId")
+    Optional<ProjectDataVersion> findDataVersion(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.taskmanagement.domain.project.ProjectDataVersion(p.id, p.dataVersion, p.dataModifiedAt) " +
+           "FROM Project p WHERE p.id IN :projectIds")
+    List<ProjectDataVersion> findDataVersions(@Param("projectIds") Collection<Long> projectIds);
 }
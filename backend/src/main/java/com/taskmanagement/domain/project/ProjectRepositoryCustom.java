@@ -0,0 +1,49 @@
+package com.taskmanagement.domain.project;
+
+import com.taskmanagement.dto.response.ProjectView;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Bump the project's data version after its tasks or dependencies changed, and return the new value
+     * The update keeps the project row locked until commit, so versions follow commit order within a project.
+     *
+     * @throws jakarta.persistence.EntityNotFoundException If the project does not exist
+     */
+    long nextDataVersion(Long projectId);
+
+    /**
+     * Projects with their task statistics, ordered by id
+     *
+     * @param status Project status to filter by, or null for all projects
+     */
+    List<ProjectView> findViews(String status);
+
+    /**
+     * Add the given tasks, as currently stored, to the task counts of the project's summary
+     * Call after the tasks were created or changed and flushed; dates and average progress are not touched.
+     */
+    void addToSummary(Long projectId, Collection<Long> taskIds);
+
+    /**
+     * Subtract the given tasks, as currently stored, from the task counts of the project's summary
+     * Call before the tasks are deleted or their changes are flushed.
+     */
+    void removeFromSummary(Long projectId, Collection<Long> taskIds);
+
+    /**
+     * Recompute the project's whole summary, e.g. after a bulk change such as an import
+     */
+    void refreshSummary(Long projectId);
+
+    /**
+     * Recompute the summaries of projects whose summary is missing, was computed before today,
+     * or predates the project's current data version
+     *
+     * @return Number of refreshed summaries
+     */
+    int refreshStaleSummaries();
+}
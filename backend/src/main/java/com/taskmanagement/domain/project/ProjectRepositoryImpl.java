@@ -0,0 +1,173 @@
+package com.taskmanagement.domain.project;
+
+import com.taskmanagement.dto.response.ProjectSummary;
+import com.taskmanagement.dto.response.ProjectView;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    // Plain JDBC on purpose: a JPQL bulk update would evict the whole project cache region on every task write
+    private static final String NEXT_DATA_VERSION_SQL =
+        "UPDATE project SET data_version = data_version + 1, data_modified_at = ? WHERE id = ? " +
+        "RETURNING data_version";
+
+    // Same statement as the V15 backfill; average progress is over leaf tasks only
+    private static final String REFRESH_SUMMARY_SQL =
+        "INSERT INTO project_summary (project_id, task_count, planned_count, in_progress_count, done_count, " +
+        "blocked_count, on_hold_count, overdue_count, start_date, end_date, average_progress, as_of, refreshed_at, " +
+        "data_version) " +
+        "SELECT p.id, count(t.id), " +
+        "count(t.id) FILTER (WHERE t.status = 'planned'), " +
+        "count(t.id) FILTER (WHERE t.status = 'in_progress'), " +
+        "count(t.id) FILTER (WHERE t.status = 'done'), " +
+        "count(t.id) FILTER (WHERE t.status = 'blocked'), " +
+        "count(t.id) FILTER (WHERE t.status = 'on_hold'), " +
+        "count(t.id) FILTER (WHERE t.status <> 'done' AND t.end_date < CURRENT_DATE), " +
+        "min(t.start_date), max(t.end_date), " +
+        "round(avg(t.progress) FILTER (WHERE NOT EXISTS (" +
+        "SELECT 1 FROM task c WHERE c.project_id = t.project_id AND c.parent_task_id = t.id)), 2), " +
+        "CURRENT_DATE, now(), p.data_version " +
+        "FROM project p LEFT JOIN task t ON t.project_id = p.id " +
+        "WHERE %s " +
+        "GROUP BY p.id " +
+        "ON CONFLICT (project_id) DO UPDATE SET task_count = EXCLUDED.task_count, " +
+        "planned_count = EXCLUDED.planned_count, in_progress_count = EXCLUDED.in_progress_count, " +
+        "done_count = EXCLUDED.done_count, blocked_count = EXCLUDED.blocked_count, " +
+        "on_hold_count = EXCLUDED.on_hold_count, overdue_count = EXCLUDED.overdue_count, " +
+        "start_date = EXCLUDED.start_date, end_date = EXCLUDED.end_date, " +
+        "average_progress = EXCLUDED.average_progress, as_of = EXCLUDED.as_of, refreshed_at = EXCLUDED.refreshed_at, " +
+        "data_version = EXCLUDED.data_version";
+
+    private static final String REFRESH_PROJECT_SUMMARY_SQL = String.format(REFRESH_SUMMARY_SQL, "p.id = ?");
+
+    // Missing, computed before today, or older than the project's last task change
+    private static final String REFRESH_STALE_SUMMARIES_SQL = String.format(REFRESH_SUMMARY_SQL,
+        "NOT EXISTS (SELECT 1 FROM project_summary s WHERE s.project_id = p.id " +
+        "AND s.as_of >= CURRENT_DATE AND s.data_version >= p.data_version)");
+
+    // Adds (+) or subtracts (-) the counts of the given tasks' stored rows; dates and average progress are
+    // left to the next full refresh
+    private static final String ADJUST_SUMMARY_SQL =
+        "UPDATE project_summary s SET task_count = s.task_count %1$s d.task_count, " +
+        "planned_count = s.planned_count %1$s d.planned_count, " +
+        "in_progress_count = s.in_progress_count %1$s d.in_progress_count, " +
+        "done_count = s.done_count %1$s d.done_count, " +
+        "blocked_count = s.blocked_count %1$s d.blocked_count, " +
+        "on_hold_count = s.on_hold_count %1$s d.on_hold_count, " +
+        "overdue_count = s.overdue_count %1$s d.overdue_count " +
+        "FROM (SELECT count(*) AS task_count, " +
+        "count(*) FILTER (WHERE t.status = 'planned') AS planned_count, " +
+        "count(*) FILTER (WHERE t.status = 'in_progress') AS in_progress_count, " +
+        "count(*) FILTER (WHERE t.status = 'done') AS done_count, " +
+        "count(*) FILTER (WHERE t.status = 'blocked') AS blocked_count, " +
+        "count(*) FILTER (WHERE t.status = 'on_hold') AS on_hold_count, " +
+        "count(*) FILTER (WHERE t.status <> 'done' AND t.end_date < CURRENT_DATE) AS overdue_count " +
+        "FROM task t WHERE t.id = ANY (?)) d " +
+        "WHERE s.project_id = ?";
+
+    private static final String ADD_TO_SUMMARY_SQL = String.format(ADJUST_SUMMARY_SQL, "+");
+
+    private static final String REMOVE_FROM_SUMMARY_SQL = String.format(ADJUST_SUMMARY_SQL, "-");
+
+    private static final String VIEWS_SQL =
+        "SELECT p.id, p.name, p.start_date, p.end_date, p.status, p.version, p.created_at, p.updated_at, " +
+        "s.task_count, s.planned_count, s.in_progress_count, s.done_count, s.blocked_count, s.on_hold_count, " +
+        "s.overdue_count, s.start_date AS task_start_date, s.end_date AS task_end_date, s.average_progress, s.as_of " +
+        "FROM project p LEFT JOIN project_summary s ON s.project_id = p.id ";
+
+    private static final RowMapper<ProjectView> VIEW_ROW_MAPPER = (rs, rowNum) -> {
+        // A project without a summary row has not been written since the summaries were backfilled: no tasks
+        Map<String, Integer> tasksByStatus = new LinkedHashMap<>();
+        tasksByStatus.put("planned", rs.getInt("planned_count"));
+        tasksByStatus.put("in_progress", rs.getInt("in_progress_count"));
+        tasksByStatus.put("done", rs.getInt("done_count"));
+        tasksByStatus.put("blocked", rs.getInt("blocked_count"));
+        tasksByStatus.put("on_hold", rs.getInt("on_hold_count"));
+
+        LocalDate asOf = rs.getObject("as_of", LocalDate.class);
+        ProjectSummary summary = ProjectSummary.builder()
+            .taskCount(rs.getInt("task_count"))
+            .tasksByStatus(tasksByStatus)
+            .overdueCount(rs.getInt("overdue_count"))
+            .startDate(rs.getObject("task_start_date", LocalDate.class))
+            .endDate(rs.getObject("task_end_date", LocalDate.class))
+            .averageProgress(rs.getBigDecimal("average_progress"))
+            .asOf(asOf != null ? asOf : LocalDate.now())
+            .build();
+
+        return ProjectView.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .startDate(rs.getObject("start_date", LocalDate.class))
+            .endDate(rs.getObject("end_date", LocalDate.class))
+            .status(rs.getString("status"))
+            .version(rs.getLong("version"))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class))
+            .summary(summary)
+            .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long nextDataVersion(Long projectId) {
+        List<Long> versions = jdbcTemplate.query(NEXT_DATA_VERSION_SQL,
+            (rs, rowNum) -> rs.getLong("data_version"), OffsetDateTime.now(), projectId);
+        if (versions.isEmpty()) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        return versions.get(0);
+    }
+
+    @Override
+    public List<ProjectView> findViews(String status) {
+        if (status == null) {
+            return jdbcTemplate.query(VIEWS_SQL + "ORDER BY p.id", VIEW_ROW_MAPPER);
+        }
+        return jdbcTemplate.query(VIEWS_SQL + "WHERE p.status = ? ORDER BY p.id", VIEW_ROW_MAPPER, status);
+    }
+
+    @Override
+    public void addToSummary(Long projectId, Collection<Long> taskIds) {
+        adjustSummary(ADD_TO_SUMMARY_SQL, projectId, taskIds);
+    }
+
+    @Override
+    public void removeFromSummary(Long projectId, Collection<Long> taskIds) {
+        adjustSummary(REMOVE_FROM_SUMMARY_SQL, projectId, taskIds);
+    }
+
+    @Override
+    public void refreshSummary(Long projectId) {
+        jdbcTemplate.update(REFRESH_PROJECT_SUMMARY_SQL, projectId);
+    }
+
+    @Override
+    public int refreshStaleSummaries() {
+        return jdbcTemplate.update(REFRESH_STALE_SUMMARIES_SQL);
+    }
+
+    private void adjustSummary(String sql, Long projectId, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+            ps.setLong(2, projectId);
+        });
+    }
+}
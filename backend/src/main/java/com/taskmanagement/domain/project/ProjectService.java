@@ -1,6 +1,12 @@
 package com.taskmanagement.domain.project;
 
+import com.taskmanagement.domain.task.Task;
+import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.dto.response.ProjectView;
+import com.taskmanagement.util.SecondLevelCacheEvictor;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,25 +17,37 @@ import java.util.List;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
 
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, SecondLevelCacheEvictor cacheEvictor) {
         this.projectRepository = projectRepository;
+        this.cacheEvictor = cacheEvictor;
     }
 
     /**
-     * Get all projects
+     * Get all projects, each with its task statistics
      */
     @Transactional(readOnly = true)
-    public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+    public List<ProjectView> getAllProjects() {
+        return projectRepository.findViews(null);
     }
 
     /**
-     * Get projects by status
+     * Get projects by status, each with its task statistics
      */
     @Transactional(readOnly = true)
-    public List<Project> getProjectsByStatus(String status) {
-        return projectRepository.findByStatus(status);
+    public List<ProjectView> getProjectsByStatus(String status) {
+        return projectRepository.findViews(status);
+    }
+
+    /**
+     * Recompute the project summaries that task writes left behind
+     * Writes only adjust the task counts; dates and average progress catch up here, as does the
+     * date-dependent overdue count once the day has changed.
+     */
+    @Scheduled(fixedDelayString = "${app.project-summary.refresh-delay:PT30S}")
+    public void refreshStaleSummaries() {
+        projectRepository.refreshStaleSummaries();
     }
 
     /**
@@ -54,9 +72,14 @@ public class ProjectService {
 
     /**
      * Update an existing project
+     *
+     * @param expectedVersion Version the client last read (from If-Match), or null to skip the check
      */
-    public Project updateProject(Long id, Project projectUpdates) {
+    public Project updateProject(Long id, Project projectUpdates, Long expectedVersion) {
         Project existingProject = getProjectById(id);
+        if (expectedVersion != null && !expectedVersion.equals(existingProject.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
 
         // Update fields
         if (projectUpdates.getName() != null) {
@@ -73,7 +96,9 @@ public class ProjectService {
         }
 
         validateProject(existingProject);
-        return projectRepository.save(existingProject);
+
+        // Flushed so the returned version (and a concurrent-update conflict) is known before responding
+        return projectRepository.saveAndFlush(existingProject);
     }
 
     /**
@@ -84,6 +109,10 @@ public class ProjectService {
             throw new EntityNotFoundException("Project not found with id: " + id);
         }
         projectRepository.deleteById(id);
+
+        // The project's tasks go with it through ON DELETE CASCADE, out of Hibernate's sight
+        cacheEvictor.evictAll(Task.class);
+        cacheEvictor.evictQueryRegion(TaskRepository.TASK_CODE_CACHE_REGION);
     }
 
     /**
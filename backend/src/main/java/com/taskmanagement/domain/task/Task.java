@@ -8,11 +8,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
 @Table(
     name = "task",
     uniqueConstraints = {
@@ -75,6 +78,29 @@ public class Task {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    // Row version for optimistic locking; exposed so clients can send it back as If-Match
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Project data version of the last change, used by delta sync
+    @JsonIgnore
+    @Column(name = "sync_version", nullable = false)
+    private Long syncVersion;
+
+    // Subtree rollups, maintained with SQL by TaskRepository#refreshRollups and only exposed through TaskView
+    @JsonIgnore
+    @Column(name = "rollup_start_date", insertable = false, updatable = false)
+    private LocalDate rollupStartDate;
+
+    @JsonIgnore
+    @Column(name = "rollup_end_date", insertable = false, updatable = false)
+    private LocalDate rollupEndDate;
+
+    @JsonIgnore
+    @Column(name = "rollup_progress", insertable = false, updatable = false)
+    private Short rollupProgress;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -95,6 +121,9 @@ public class Task {
         if (isMilestone == null) {
             isMilestone = false;
         }
+        if (syncVersion == null) {
+            syncVersion = 0L;
+        }
         validateDates();
     }
 
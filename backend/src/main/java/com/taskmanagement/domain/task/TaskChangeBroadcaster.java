@@ -0,0 +1,232 @@
+package com.taskmanagement.domain.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.response.TaskChangeMessage;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes task change events to the Server-Sent Events subscribers of each project
+ * Events are published by the services and only delivered after their transaction commits.
+ * Each event is serialized once and the same frame is queued for every viewer of the project. Every viewer
+ * has its own bounded queue, drained by a small shared pool, so request threads never block on clients and
+ * a slow viewer only delays itself. Viewers whose queue overflows or whose write stalls are dropped;
+ * browsers reconnect and catch up through delta sync.
+ */
+@Component
+public class TaskChangeBroadcaster {
+
+    // Browsers reconnect automatically when the stream ends
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    // Keeps idle connections open through proxies; also the interval of the stalled-write check
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 25;
+    private static final int DELIVERY_THREADS = 8;
+    private static final int MAX_QUEUED_FRAMES = 256;
+    private static final long SEND_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Map<Long, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+        daemonThreads("task-change-heartbeat"));
+    private final ExecutorService delivery = Executors.newFixedThreadPool(DELIVERY_THREADS,
+        daemonThreads("task-change-sender"));
+    private final ObjectMapper objectMapper;
+
+    public TaskChangeBroadcaster(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+            HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Register a new viewer of a project's change stream
+     */
+    public SseEmitter subscribe(Long projectId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        // Added inside compute so a concurrent unsubscribe cannot drop the set this subscriber joins
+        subscribersByProject.compute(projectId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+        return emitter;
+    }
+
+    /**
+     * Deliver a committed change to the project's viewers
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChange(TaskChangeMessage message) {
+        Set<Subscriber> subscribers = subscribersByProject.get(message.getProjectId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                .name(message.getType())
+                .data(objectMapper.writeValueAsString(message))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        subscribers.forEach(subscriber -> subscriber.enqueue(frame));
+    }
+
+    private void sendHeartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        long now = System.nanoTime();
+        subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                subscriber.close();
+            } else {
+                subscriber.enqueue(frame);
+            }
+        }));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersByProject.computeIfPresent(subscriber.projectId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        delivery.shutdownNow();
+        subscribersByProject.values().forEach(subscribers ->
+            subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * One viewer's emitter with its pending frames
+     * At most one drain runs per subscriber, so frames go out in order and a blocked write holds a single
+     * pool thread until the container's write timeout fails it.
+     */
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile Long sendingSince;
+        private boolean completed;  // Only touched by the running drain
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // The client reads slower than changes arrive
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        boolean isStalled(long now) {
+            Long since = sendingSince;
+            return since != null && now - since > SEND_TIMEOUT_NANOS;
+        }
+
+        /**
+         * Stop delivering to this viewer and end its stream once no write is in progress
+         */
+        void close() {
+            detach();
+            scheduleDrain();
+        }
+
+        /**
+         * Stop delivering to this viewer, e.g. after the container completed the emitter
+         */
+        void detach() {
+            closed = true;
+            queue.clear();
+            unsubscribe(this);
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    emitter.send(frame);
+                    sendingSince = null;
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the emitter
+                completed = true;
+                detach();
+            } finally {
+                sendingSince = null;
+                draining.set(false);
+            }
+
+            // Frames queued, or a close requested, while this drain was finishing
+            if (closed ? !completed : !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -1,49 +1,318 @@
 package com.taskmanagement.domain.task;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.config.ReplicaRoutingDataSource;
+import com.taskmanagement.domain.project.ProjectDataVersion;
+import com.taskmanagement.dto.request.BatchUpdateTasksRequest;
+import com.taskmanagement.dto.request.BulkDeleteTasksRequest;
 import com.taskmanagement.dto.request.CreateDependencyRequest;
 import com.taskmanagement.dto.request.CreateTaskRequest;
 import com.taskmanagement.dto.request.UpdateTaskRequest;
 import com.taskmanagement.dto.response.ApiResponse;
+import com.taskmanagement.dto.response.BatchUpdateResult;
+import com.taskmanagement.dto.response.BulkDeleteResult;
+import com.taskmanagement.dto.response.GanttResponse;
+import com.taskmanagement.dto.response.TaskSyncResponse;
+import com.taskmanagement.dto.response.TaskView;
+import com.taskmanagement.dto.response.WbsNode;
+import com.taskmanagement.util.VersionETag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RestController
 @RequestMapping("/api")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER)
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeBroadcaster taskChangeBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 5000;
+    private static final int STREAM_FLUSH_ROWS = 1000;
+
+    public TaskController(TaskService taskService, TaskChangeBroadcaster taskChangeBroadcaster,
+                          ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskChangeBroadcaster = taskChangeBroadcaster;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * GET /api/projects/{projectId}/tasks - List tasks for a project
+     * Filters (date window, statuses, assignee, milestone, parent) can be combined freely.
+     * With limit, returns one keyset page sorted by id or startDate; meta.nextCursor points to the next page
+     * With fields (e.g. fields=name,startDate,endDate), only those task properties, plus id, are read and returned
+     * Answers 304 when If-None-Match matches the project's current data version
      */
     @GetMapping("/projects/{projectId}/tasks")
-    public ApiResponse<List<Task>> getTasksByProject(
+    public ResponseEntity<MappingJacksonValue> getTasksByProject(
         @PathVariable Long projectId,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-        @RequestParam(required = false) String status
+        @RequestParam(required = false) List<String> status,
+        @RequestParam(required = false) String assignee,
+        @RequestParam(required = false) Boolean milestone,
+        @RequestParam(required = false) Long parentTaskId,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = TaskCursor.SORT_ID) String sort,
+        @RequestParam(required = false) String fields,
+        WebRequest request
     ) {
-        List<Task> tasks;
+        ProjectDataVersion version = taskService.getProjectDataVersion(projectId);
+        if (isNotModified(version, request)) {
+            return null;
+        }
 
-        if (from != null && to != null) {
-            tasks = taskService.getTasksByProjectAndDateRange(projectId, from, to);
-        } else if (status != null) {
-            tasks = taskService.getTasksByProjectAndStatus(projectId, status);
-        } else {
-            tasks = taskService.getTasksByProject(projectId);
+        TaskFilter filter = filter(projectId, from, to, status, assignee, milestone, parentTaskId);
+        TaskFields taskFields = TaskFields.parse(fields);
+
+        if (limit != null || cursor != null) {
+            int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+            return versioned(version, sparse(getTaskPage(filter, sort, cursor, pageSize, taskFields), taskFields));
+        }
+
+        List<TaskView> tasks = taskService.getTaskViewsByFilter(filter, taskFields);
+        return versioned(version, sparse(ApiResponse.success(tasks), taskFields));
+    }
+
+    /**
+     * GET /api/projects/{projectId}/tasks/stream - All tasks of a project matching the filters, ordered by id
+     * Same filters, fields and response shape as the task list, but written while rows come off a database cursor:
+     * memory stays constant and the first bytes go out right away. An error after that point can only
+     * cut the response short, so clients must treat truncated JSON as a failed request.
+     * Answers 304 when If-None-Match matches the project's current data version
+     */
+    @GetMapping("/projects/{projectId}/tasks/stream")
+    public ResponseEntity<StreamingResponseBody> streamTasksByProject(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) List<String> status,
+        @RequestParam(required = false) String assignee,
+        @RequestParam(required = false) Boolean milestone,
+        @RequestParam(required = false) Long parentTaskId,
+        @RequestParam(required = false) String fields,
+        WebRequest request
+    ) {
+        // Checked up front, while a missing project can still be answered with 404
+        ProjectDataVersion version = taskService.getProjectDataVersion(projectId);
+        if (version == null) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        if (isNotModified(version, request)) {
+            return null;
+        }
+
+        TaskFilter filter = filter(projectId, from, to, status, assignee, milestone, parentTaskId);
+        TaskFields taskFields = TaskFields.parse(fields);
+        // Flushed every STREAM_FLUSH_ROWS rows instead of after each one, which would send a chunk
+        // (and a compression sync-flush) per task
+        ObjectWriter taskWriter = objectMapper.writer(taskFields.filters())
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("data");
+                generator.flush();
+
+                AtomicInteger written = new AtomicInteger();
+                taskService.streamTaskViews(filter, taskFields, task -> {
+                    try {
+                        taskWriter.writeValue(generator, task);
+                        if (written.incrementAndGet() % STREAM_FLUSH_ROWS == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+                generator.writeObjectField("meta", ApiResponse.Meta.builder()
+                    .requestId(UUID.randomUUID().toString())
+                    .timestamp(OffsetDateTime.now())
+                    .build());
+                generator.writeNullField("errors");
+                generator.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(version.getETag())
+            .lastModified(version.getLastModifiedMillis())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    private TaskFilter filter(Long projectId, LocalDate from, LocalDate to, List<String> statuses,
+                              String assignee, Boolean milestone, Long parentTaskId) {
+        return TaskFilter.builder()
+            .projectId(projectId)
+            .from(from)
+            .to(to)
+            .statuses(statuses)
+            .assignee(assignee)
+            .milestone(milestone)
+            .parentTaskId(parentTaskId)
+            .build();
+    }
+
+    /**
+     * Wrap a response so only the requested task properties are serialized
+     */
+    private MappingJacksonValue sparse(Object response, TaskFields fields) {
+        MappingJacksonValue value = new MappingJacksonValue(response);
+        value.setFilters(fields.filters());
+        return value;
+    }
+
+    private ApiResponse<List<TaskView>> getTaskPage(TaskFilter filter, String sort, String cursor, int limit,
+                                                    TaskFields fields) {
+        if (!TaskCursor.SORT_ID.equals(sort) && !TaskCursor.SORT_START_DATE.equals(sort)) {
+            throw new IllegalArgumentException("Sort must be one of: id, startDate");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor, sort) : null;
+        List<TaskView> tasks = taskService.getTaskViewsByFilterPage(filter, sort, after, limit, fields);
+
+        // One extra row was fetched to detect whether another page exists
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = TaskCursor.after(tasks.get(limit - 1), sort).encode();
         }
 
-        return ApiResponse.success(tasks);
+        return ApiResponse.success(tasks, nextCursor);
+    }
+
+    /**
+     * GET /api/projects/{projectId}/gantt - Tasks and dependency edges of a project in one payload
+     * With fields, only those task properties, plus id, are read and returned
+     * Answers 304 when If-None-Match matches the project's current data version
+     */
+    @GetMapping("/projects/{projectId}/gantt")
+    public ResponseEntity<MappingJacksonValue> getGanttData(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String fields,
+        WebRequest request
+    ) {
+        ProjectDataVersion version = taskService.getProjectDataVersion(projectId);
+        if (isNotModified(version, request)) {
+            return null;
+        }
+
+        TaskFields taskFields = TaskFields.parse(fields);
+        GanttResponse gantt = taskService.getGanttData(projectId, taskFields);
+        return versioned(version, sparse(ApiResponse.success(gantt), taskFields));
+    }
+
+    /**
+     * GET /api/projects/{projectId}/wbs?rootTaskId= - Task hierarchy as a nested tree
+     * Each node carries its subtree's rolled-up dates, progress and child counts.
+     * Answers 304 when If-None-Match matches the project's current data version
+     *
+     * @param rootTaskId Root of the subtree to return (default: the whole project)
+     */
+    @GetMapping("/projects/{projectId}/wbs")
+    public ResponseEntity<ApiResponse<List<WbsNode>>> getWbsTree(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) Long rootTaskId,
+        WebRequest request
+    ) {
+        ProjectDataVersion version = taskService.getProjectDataVersion(projectId);
+        if (isNotModified(version, request)) {
+            return null;
+        }
+
+        List<WbsNode> tree = taskService.getWbsTree(projectId, rootTaskId);
+        return versioned(version, ApiResponse.success(tree));
+    }
+
+    /**
+     * Check the conditional request headers against the project version; sets the 304 status when they match
+     * The 304 carries the same Vary: Accept as the full response would
+     */
+    private boolean isNotModified(ProjectDataVersion version, WebRequest request) {
+        if (version == null || !request.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+            return false;
+        }
+        HttpServletResponse response = ((NativeWebRequest) request).getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return true;
+    }
+
+    /**
+     * Attach the project version as ETag/Last-Modified; no-cache makes clients revalidate instead of reusing stale lists
+     * The version is the same for the JSON and CBOR representations, so caches must also key on Accept
+     */
+    private <T> ResponseEntity<T> versioned(ProjectDataVersion version, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT);
+        if (version != null) {
+            builder.eTag(version.getETag()).lastModified(version.getLastModifiedMillis());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * GET /api/projects/{projectId}/changes?since={version} - Delta sync
+     * Returns tasks and dependencies changed or deleted after the given project data version,
+     * plus the current version to pass as since on the next call
+     */
+    @GetMapping("/projects/{projectId}/changes")
+    public ApiResponse<TaskSyncResponse> getChanges(
+        @PathVariable Long projectId,
+        @RequestParam(defaultValue = "0") long since
+    ) {
+        TaskSyncResponse changes = taskService.getChangesSince(projectId, since);
+        return ApiResponse.success(changes);
+    }
+
+    /**
+     * GET /api/projects/{projectId}/events - Server-Sent Events stream of committed task and dependency changes
+     * Event names are the TaskChangeMessage types; data is the message as JSON
+     */
+    @GetMapping(value = "/projects/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(@PathVariable Long projectId) {
+        if (taskService.getProjectDataVersion(projectId) == null) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        return taskChangeBroadcaster.subscribe(projectId);
     }
 
     /**
@@ -77,21 +346,55 @@ public class TaskController {
         return ApiResponse.success(createdTask);
     }
 
+    /**
+     * GET /api/tasks/search?q=&projectId=&page=0&size=20 - Full-text task search
+     * Matches task code, name, assignee and notes; partial codes and names match as substrings
+     *
+     * @param q         Search text (words, "quoted phrases", -excluded words)
+     * @param projectId Projects to search (repeatable); all projects when omitted
+     * @param page      Zero-based page number (default: 0)
+     * @param size      Page size (default: 20, max: 100)
+     * @return Matching tasks, most relevant first, with paging info in meta
+     */
+    @GetMapping("/tasks/search")
+    public ApiResponse<List<TaskView>> searchTasks(
+        @RequestParam String q,
+        @RequestParam(required = false) List<Long> projectId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Size must be between 1 and 100");
+        }
+
+        Page<TaskView> hits = taskService.searchTasks(q, projectId, page, size);
+        return ApiResponse.success(hits);
+    }
+
     /**
      * GET /api/tasks/{id} - Get task by ID
      */
     @GetMapping("/tasks/{id}")
-    public ApiResponse<Task> getTaskById(@PathVariable Long id) {
-        Task task = taskService.getTaskById(id);
-        return ApiResponse.success(task);
+    public ResponseEntity<ApiResponse<TaskView>> getTaskById(@PathVariable Long id) {
+        TaskView task = taskService.getTaskViewById(id);
+        return ResponseEntity.ok()
+            .eTag(VersionETag.of(task.getVersion()))
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(ApiResponse.success(task));
     }
 
     /**
      * PATCH /api/tasks/{id} - Update task
+     * With If-Match (the ETag of GET /api/tasks/{id}, or the task's version), the update only applies
+     * if nobody changed the task since; otherwise it answers 409 and the client should reload and retry
      */
     @PatchMapping("/tasks/{id}")
-    public ApiResponse<Task> updateTask(
+    public ResponseEntity<ApiResponse<Task>> updateTask(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdateTaskRequest request
     ) {
         Task taskUpdates = Task.builder()
@@ -111,17 +414,46 @@ public class TaskController {
             taskUpdates.setParentTask(parentTask);
         }
 
-        Task updatedTask = taskService.updateTask(id, taskUpdates);
-        return ApiResponse.success(updatedTask);
+        Task updatedTask = taskService.updateTask(id, taskUpdates, VersionETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+            .eTag(VersionETag.of(updatedTask.getVersion()))
+            .body(ApiResponse.success(updatedTask));
+    }
+
+    /**
+     * PATCH /api/tasks - Update many tasks in one transaction
+     * Returns one result per item; rejected items are not applied and do not prevent the others
+     */
+    @PatchMapping("/tasks")
+    public ApiResponse<List<BatchUpdateResult>> updateTasks(@Valid @RequestBody BatchUpdateTasksRequest request) {
+        List<BatchUpdateResult> results = taskService.updateTasks(request.getUpdates());
+        return ApiResponse.success(results);
     }
 
     /**
-     * DELETE /api/tasks/{id} - Delete task
+     * DELETE /api/tasks/{id}?subtree={true|false} - Delete task
+     * A task with subtasks can only be deleted with subtree=true, which removes the whole branch
      */
     @DeleteMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public void deleteTask(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "false") boolean subtree
+    ) {
+        if (subtree) {
+            taskService.deleteTaskSubtree(id);
+        } else {
+            taskService.deleteTask(id);
+        }
+    }
+
+    /**
+     * POST /api/tasks/bulk-delete - Delete many tasks, each with all its subtasks
+     */
+    @PostMapping("/tasks/bulk-delete")
+    public ApiResponse<BulkDeleteResult> deleteTasks(@Valid @RequestBody BulkDeleteTasksRequest request) {
+        int deleted = taskService.deleteTasks(request.getIds());
+        return ApiResponse.success(BulkDeleteResult.builder().deletedCount(deleted).build());
     }
 
     /**
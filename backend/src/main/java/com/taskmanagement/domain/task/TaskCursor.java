@@ -0,0 +1,83 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.dto.response.TaskView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for paging through a project's tasks
+ * Encodes the sort key of the last returned task: its id, or its start date and id
+ */
+public class TaskCursor {
+
+    public static final String SORT_ID = "id";
+    public static final String SORT_START_DATE = "startDate";
+
+    private final String sort;
+    private final LocalDate startDate;
+    private final Long id;
+
+    private TaskCursor(String sort, LocalDate startDate, Long id) {
+        this.sort = sort;
+        this.startDate = startDate;
+        this.id = id;
+    }
+
+    /**
+     * Build the cursor pointing after the given task for the given sort
+     */
+    public static TaskCursor after(TaskView task, String sort) {
+        return new TaskCursor(sort, SORT_START_DATE.equals(sort) ? task.getStartDate() : null, task.getId());
+    }
+
+    /**
+     * Decode a cursor string produced by {@link #encode()}
+     *
+     * @param cursor       Encoded cursor
+     * @param expectedSort Sort of the current request; the cursor must have been issued for the same sort
+     */
+    public static TaskCursor decode(String cursor, String expectedSort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+
+            if (SORT_ID.equals(parts[0]) && parts.length == 2) {
+                return checkSort(new TaskCursor(SORT_ID, null, Long.parseLong(parts[1])), expectedSort);
+            }
+            if (SORT_START_DATE.equals(parts[0]) && parts.length == 3) {
+                return checkSort(new TaskCursor(SORT_START_DATE, LocalDate.parse(parts[1]),
+                        Long.parseLong(parts[2])), expectedSort);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Fall through to the invalid cursor error
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    private static TaskCursor checkSort(TaskCursor cursor, String expectedSort) {
+        if (!cursor.sort.equals(expectedSort)) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + cursor.sort + "'");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = SORT_START_DATE.equals(sort) ? sort + "|" + startDate + "|" + id : sort + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -1,11 +1,14 @@
 package com.taskmanagement.domain.task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Table(
@@ -27,16 +30,23 @@ public class TaskDependency {
     @NotNull(message = "Task is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Task task;
 
     @NotNull(message = "Predecessor task is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "predecessor_task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Task predecessorTask;
 
     @Column(name = "type", nullable = false, length = 8)
     private String type = "FS";
 
+    // Project data version of the last change, used by delta sync
+    @JsonIgnore
+    @Column(name = "sync_version", nullable = false)
+    private Long syncVersion;
+
     @PrePersist
     @PreUpdate
     protected void validate() {
@@ -47,5 +57,8 @@ public class TaskDependency {
         if (type == null) {
             type = "FS";
         }
+        if (syncVersion == null) {
+            syncVersion = 0L;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.taskmanagement.domain.task;
 
+import com.taskmanagement.dto.response.TaskDependencyView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,20 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
     @Query("SELECT td FROM TaskDependency td WHERE td.task.project.id = :projectId")
     List<TaskDependency> findByProjectId(@Param("projectId") Long projectId);
 
+    @Query("SELECT new com.taskmanagement.dto.response.TaskDependencyView(" +
+           "td.id, td.task.id, td.predecessorTask.id, td.type) " +
+           "FROM TaskDependency td WHERE td.task.project.id = :projectId ORDER BY td.id")
+    List<TaskDependencyView> findViewsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.taskmanagement.dto.response.TaskDependencyView(" +
+           "td.id, td.task.id, td.predecessorTask.id, td.type) " +
+           "FROM TaskDependency td WHERE td.task.project.id = :projectId AND td.syncVersion > :since " +
+           "ORDER BY td.id")
+    List<TaskDependencyView> findViewsByProjectIdChangedSince(
+        @Param("projectId") Long projectId,
+        @Param("since") long since
+    );
+
     Optional<TaskDependency> findByTaskIdAndPredecessorTaskId(Long taskId, Long predecessorTaskId);
 
     void deleteByTaskIdAndPredecessorTaskId(Long taskId, Long predecessorTaskId);
@@ -0,0 +1,84 @@
+package com.taskmanagement.domain.task;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskmanagement.dto.response.TaskView;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of task read models, parsed from a fields=id,name,startDate request parameter
+ * Drives both the SQL projection (unrequested columns are not read) and the serialized properties.
+ * The id is always included.
+ */
+public class TaskFields {
+
+    public static final List<String> NAMES = List.of(
+        "id", "projectId", "taskCode", "name", "assignee", "startDate", "endDate", "progress", "status",
+        "parentTaskId", "isMilestone", "notes", "createdAt", "updatedAt", "version",
+        "rollupStartDate", "rollupEndDate", "rollupProgress");
+
+    public static final TaskFields ALL = new TaskFields(Set.copyOf(NAMES));
+
+    private final Set<String> names;
+
+    private TaskFields(Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Parse a comma-separated list of TaskView property names
+     *
+     * @param fields Requested fields, or null/blank for all fields
+     */
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String field : fields.split(",", -1)) {
+            String name = field.trim();
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException(
+                    "Unknown field '" + name + "', must be one of: " + String.join(", ", NAMES));
+            }
+            names.add(name);
+        }
+        return new TaskFields(names);
+    }
+
+    /**
+     * This fieldset plus the given field, e.g. the sort key a keyset cursor is built from
+     */
+    public TaskFields with(String name) {
+        if (names.contains(name)) {
+            return this;
+        }
+        Set<String> extended = new LinkedHashSet<>(names);
+        extended.add(name);
+        return new TaskFields(extended);
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    public boolean isAll() {
+        return names.size() == NAMES.size();
+    }
+
+    /**
+     * Jackson filters that leave only these fields in serialized task read models
+     */
+    public FilterProvider filters() {
+        return new SimpleFilterProvider().addFilter(TaskView.FIELDS_FILTER, isAll()
+            ? SimpleBeanPropertyFilter.serializeAll()
+            : SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Composable criteria for listing a project's tasks
+ * Every non-null criterion narrows the result; all of them are applied in a single query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private Long projectId;
+    private LocalDate from;           // Tasks ending on or after this date
+    private LocalDate to;             // Tasks starting on or before this date
+    private List<String> statuses;
+    private String assignee;
+    private Boolean milestone;
+    private Long parentTaskId;
+}
@@ -1,30 +1,53 @@
 package com.taskmanagement.domain.task;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     List<Task> findByProjectId(Long projectId);
 
-    List<Task> findByProjectIdAndStatus(Long projectId, String status);
-
-    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId " +
-           "AND t.startDate <= :endDate AND t.endDate >= :startDate")
-    List<Task> findByProjectIdAndDateRange(
-        @Param("projectId") Long projectId,
-        @Param("startDate") LocalDate startDate,
-        @Param("endDate") LocalDate endDate
-    );
+    /**
+     * Query cache region of the task code lookup; JDBC writes that delete tasks must evict it
+     */
+    String TASK_CODE_CACHE_REGION = "task-by-code";
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_CODE_CACHE_REGION)
+    })
     Optional<Task> findByProjectIdAndTaskCode(Long projectId, String taskCode);
 
     List<Task> findByParentTaskId(Long parentTaskId);
+
+    boolean existsByParentTaskId(Long parentTaskId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.taskCode IS NOT NULL")
+    long countTaskCodesByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Stream task codes only, without hydrating Task entities. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.taskCode FROM Task t WHERE t.project.id = :projectId AND t.taskCode IS NOT NULL")
+    Stream<String> streamTaskCodesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.taskCode FROM Task t WHERE t.project.id = :projectId AND t.taskCode IN :taskCodes")
+    List<String> findExistingTaskCodes(
+        @Param("projectId") Long projectId,
+        @Param("taskCodes") Collection<String> taskCodes
+    );
 }
@@ -0,0 +1,111 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.dto.response.TaskView;
+import com.taskmanagement.dto.response.WbsNode;
+import com.taskmanagement.dto.response.WorkloadEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Select task read models matching a specification, without hydrating Task entities
+     *
+     * @param spec  Task specification
+     * @param sort  Result order
+     * @param limit Maximum number of rows, or null for all matching rows
+     */
+    List<TaskView> findViews(Specification<Task> spec, Sort sort, Integer limit);
+
+    /**
+     * Select task read models matching a specification, reading only the columns of the given fields
+     * Fields outside the fieldset are left null.
+     */
+    List<TaskView> findViews(Specification<Task> spec, Sort sort, Integer limit, TaskFields fields);
+
+    /**
+     * Stream task read models matching a specification from a database cursor, fetching rows in batches
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<TaskView> streamViews(Specification<Task> spec, Sort sort, TaskFields fields);
+
+    /**
+     * Select the read model of a single task, without hydrating the Task entity
+     */
+    Optional<TaskView> findViewById(Long id);
+
+    /**
+     * Full-text search over task code, name, assignee and notes, plus substring matches on code and name
+     * Hits are ordered by relevance; an exact task code match ranks first
+     *
+     * @param query      Search text (web search syntax: words, "quoted phrases", -excluded)
+     * @param projectIds Projects to search, or empty for all projects
+     * @param pageable   Page number and size; its sort is ignored
+     */
+    Page<TaskView> search(String query, Collection<Long> projectIds, Pageable pageable);
+
+    /**
+     * Sum the working days of assigned, non-milestone tasks per assignee and ISO week in one aggregation query
+     * Each task day inside [from, to] counts when it falls on a working day and is not a holiday
+     *
+     * @param projectIds  Projects to aggregate
+     * @param from        First day of the range (inclusive)
+     * @param to          Last day of the range (inclusive)
+     * @param workingDays Days of the week that are working days
+     * @param holidays    Non-working dates
+     * @return Entries ordered by assignee and week
+     */
+    List<WorkloadEntry> findWorkload(Collection<Long> projectIds, LocalDate from, LocalDate to,
+                                     Set<DayOfWeek> workingDays, Set<LocalDate> holidays);
+
+    /**
+     * Load a project's WBS, or one subtree of it, with one recursive query
+     * Nodes come back flat in depth-first order (siblings by id) with their rolled-up values; children are not linked
+     *
+     * @param projectId  Project ID
+     * @param rootTaskId Root of the subtree, or null for the whole project
+     */
+    List<WbsNode> findWbsNodes(Long projectId, Long rootTaskId);
+
+    /**
+     * Recompute the persisted rollups of the given tasks and of all their ancestors, deepest first
+     * Runs one statement per task on the ancestor paths (O(depth) per changed task), sent as JDBC batches.
+     * Pending entity changes must be flushed first.
+     *
+     * @param taskIds     Tasks whose own values or children changed; unknown ids are ignored
+     * @param syncVersion Project data version stamped on tasks whose rollups changed
+     */
+    void refreshRollups(Collection<Long> taskIds, long syncVersion);
+
+    /**
+     * Parents of the given tasks that are not in the given set themselves
+     */
+    List<Long> findExternalParentIds(Collection<Long> taskIds);
+
+    /**
+     * Resolve the given tasks and all their descendants with one recursive query
+     *
+     * @param rootIds Ids of the subtree roots; unknown ids are ignored
+     * @return Project id by task id, for every task of the subtrees
+     */
+    Map<Long, Long> findSubtreeProjectIds(Collection<Long> rootIds);
+
+    /**
+     * Delete tasks by id in one statement; their dependencies go with them through ON DELETE CASCADE
+     * The ids must form complete subtrees, otherwise remaining children still reference a deleted parent
+     *
+     * @return Number of deleted tasks
+     */
+    int deleteAllByIdInBulk(Collection<Long> ids);
+}
@@ -0,0 +1,412 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.dto.response.TaskView;
+import com.taskmanagement.dto.response.WbsNode;
+import com.taskmanagement.dto.response.WorkloadEntry;
+import com.taskmanagement.util.SecondLevelCacheEvictor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    // UNION (not UNION ALL) stops the recursion even if parent links ever form a cycle
+    private static final String SUBTREE_SQL =
+        "WITH RECURSIVE subtree (id, project_id) AS (" +
+        "SELECT id, project_id FROM task WHERE id = ANY (?) " +
+        "UNION " +
+        "SELECT t.id, t.project_id FROM task t JOIN subtree s ON t.parent_task_id = s.id" +
+        ") SELECT id, project_id FROM subtree";
+
+    // Guards the ancestor walk against parent cycles
+    private static final int MAX_TREE_DEPTH = 1000;
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Rows fetched per round trip when streaming views; PostgreSQL only uses a cursor inside a transaction
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String DELETE_SQL = "DELETE FROM task WHERE id = ANY (?)";
+
+    // search_vector is served by its GIN index, the ILIKE substring matches by the trigram indexes
+    private static final String SEARCH_FROM =
+        "FROM task t, websearch_to_tsquery('simple', ?) AS q (query) " +
+        "WHERE (t.search_vector @@ q.query OR t.task_code ILIKE ? OR t.name ILIKE ?)";
+
+    private static final String SEARCH_PROJECT_FILTER = " AND t.project_id = ANY (?)";
+
+    private static final String SEARCH_SELECT =
+        "SELECT t.id, t.project_id, t.task_code, t.name, t.assignee, t.start_date, t.end_date, t.progress, " +
+        "t.status, t.parent_task_id, t.is_milestone, t.notes, t.created_at, t.updated_at, " +
+        "t.version, t.rollup_start_date, t.rollup_end_date, t.rollup_progress, " +
+        "ts_rank(t.search_vector, q.query) + CASE WHEN lower(t.task_code) = lower(?) THEN 1 ELSE 0 END AS score ";
+
+    private static final String SEARCH_ORDER = " ORDER BY score DESC, t.id LIMIT ? OFFSET ?";
+
+    // One row per task day inside the range, filtered to the calendar, then grouped by assignee and ISO week;
+    // the leading date conditions let idx_task_project_assignee_start narrow the tasks first
+    private static final String WORKLOAD_SQL =
+        "SELECT t.assignee, CAST(date_trunc('week', g.work_day) AS date) AS week_start, " +
+        "count(*) AS working_days, count(DISTINCT t.id) AS task_count " +
+        "FROM task t CROSS JOIN LATERAL generate_series(" +
+        "GREATEST(t.start_date, CAST(? AS date)), LEAST(t.end_date, CAST(? AS date)), interval '1 day') AS g (work_day) " +
+        "WHERE t.project_id = ANY (?) AND t.assignee IS NOT NULL AND NOT t.is_milestone " +
+        "AND t.start_date <= CAST(? AS date) AND t.end_date >= CAST(? AS date) " +
+        "AND CAST(extract(isodow FROM g.work_day) AS int) = ANY (?) " +
+        "AND CAST(g.work_day AS date) <> ALL (?) " +
+        "GROUP BY t.assignee, week_start " +
+        "ORDER BY t.assignee, week_start";
+
+    // Walks down from the roots once, recording each node's path; unnesting the paths pairs every node with
+    // each of its ancestors, so one grouping counts children and descendants. Dates and progress come from
+    // the persisted rollups.
+    private static final String WBS_SQL =
+        "WITH RECURSIVE tree (id, parent_id, depth, path) AS (" +
+        "SELECT t.id, t.parent_task_id, 0, ARRAY[t.id] FROM task t WHERE t.project_id = ? AND %s " +
+        "UNION ALL " +
+        "SELECT c.id, c.parent_task_id, p.depth + 1, p.path || c.id " +
+        "FROM task c JOIN tree p ON c.parent_task_id = p.id WHERE c.id <> ALL (p.path)" +
+        "), counts AS (" +
+        "SELECT a.ancestor_id, count(*) FILTER (WHERE d.parent_id = a.ancestor_id) AS child_count, " +
+        "count(*) - 1 AS descendant_count " +
+        "FROM tree d CROSS JOIN LATERAL unnest(d.path) AS a (ancestor_id) " +
+        "GROUP BY a.ancestor_id" +
+        ") " +
+        "SELECT t.id, t.project_id, t.task_code, t.name, t.assignee, t.start_date, t.end_date, t.progress, " +
+        "t.status, t.parent_task_id, t.is_milestone, t.notes, t.created_at, t.updated_at, " +
+        "t.version, t.rollup_start_date, t.rollup_end_date, t.rollup_progress, " +
+        "n.depth, k.child_count, k.descendant_count " +
+        "FROM tree n JOIN task t ON t.id = n.id JOIN counts k ON k.ancestor_id = n.id " +
+        "ORDER BY n.path";
+
+    // The given tasks and all their ancestors, each with its depth below the root, deepest first
+    private static final String ANCESTORS_SQL =
+        "WITH RECURSIVE up (start_id, id, parent_task_id, distance) AS (" +
+        "SELECT t.id, t.id, t.parent_task_id, 0 FROM task t WHERE t.id = ANY (?) " +
+        "UNION ALL " +
+        "SELECT u.start_id, p.id, p.parent_task_id, u.distance + 1 FROM task p JOIN up u ON p.id = u.parent_task_id " +
+        "WHERE u.distance < " + MAX_TREE_DEPTH +
+        ") SELECT u.id, max(r.root_distance - u.distance) AS depth FROM up u " +
+        "JOIN (SELECT start_id, max(distance) AS root_distance FROM up GROUP BY start_id) r ON r.start_id = u.start_id " +
+        "GROUP BY u.id ORDER BY depth DESC";
+
+    // Recompute one task's rollups from its own values and its direct children's rollups;
+    // the row is only rewritten (and stamped with the sync version) when a rolled-up value actually changed
+    private static final String REFRESH_ROLLUP_SQL =
+        "UPDATE task p SET rollup_start_date = s.start_date, rollup_end_date = s.end_date, " +
+        "rollup_work_days = s.work_days, rollup_progress_days = s.progress_days, " +
+        "rollup_progress = CAST(round(s.progress_days / CAST(s.work_days AS numeric)) AS smallint), " +
+        "sync_version = ? " +
+        "FROM (SELECT t.id, LEAST(t.start_date, min(c.rollup_start_date)) AS start_date, " +
+        "GREATEST(t.end_date, max(c.rollup_end_date)) AS end_date, " +
+        "COALESCE(sum(c.rollup_work_days), t.end_date - t.start_date + 1) AS work_days, " +
+        "COALESCE(sum(c.rollup_progress_days), t.progress * (t.end_date - t.start_date + 1)) AS progress_days " +
+        "FROM task t LEFT JOIN task c ON c.parent_task_id = t.id WHERE t.id = ? GROUP BY t.id) s " +
+        "WHERE p.id = s.id AND (p.rollup_start_date, p.rollup_end_date, p.rollup_work_days, p.rollup_progress_days) " +
+        "IS DISTINCT FROM (s.start_date, s.end_date, s.work_days, s.progress_days)";
+
+    private static final String EXTERNAL_PARENTS_SQL =
+        "SELECT DISTINCT parent_task_id FROM task WHERE id = ANY (?) " +
+        "AND parent_task_id IS NOT NULL AND parent_task_id <> ALL (?)";
+
+    private static final String WBS_PROJECT_ROOTS = "t.parent_task_id IS NULL";
+
+    private static final String WBS_SUBTREE_ROOT = "t.id = ?";
+
+    private static final RowMapper<TaskView> VIEW_ROW_MAPPER = (rs, rowNum) -> TaskView.builder()
+        .id(rs.getLong("id"))
+        .projectId(rs.getLong("project_id"))
+        .taskCode(rs.getString("task_code"))
+        .name(rs.getString("name"))
+        .assignee(rs.getString("assignee"))
+        .startDate(rs.getObject("start_date", LocalDate.class))
+        .endDate(rs.getObject("end_date", LocalDate.class))
+        .progress(rs.getShort("progress"))
+        .status(rs.getString("status"))
+        .parentTaskId(rs.getObject("parent_task_id", Long.class))
+        .isMilestone(rs.getBoolean("is_milestone"))
+        .notes(rs.getString("notes"))
+        .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+        .updatedAt(rs.getObject("updated_at", OffsetDateTime.class))
+        .version(rs.getLong("version"))
+        .rollupStartDate(rs.getObject("rollup_start_date", LocalDate.class))
+        .rollupEndDate(rs.getObject("rollup_end_date", LocalDate.class))
+        .rollupProgress(rs.getObject("rollup_progress", Short.class))
+        .build();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheEvictor cacheEvictor;
+
+    public TaskRepositoryImpl(JdbcTemplate jdbcTemplate, SecondLevelCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    @Override
+    public List<TaskView> findViews(Specification<Task> spec, Sort sort, Integer limit) {
+        return findViews(spec, sort, limit, TaskFields.ALL);
+    }
+
+    @Override
+    public List<TaskView> findViews(Specification<Task> spec, Sort sort, Integer limit, TaskFields fields) {
+        TypedQuery<TaskView> typedQuery = viewQuery(spec, sort, fields);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<TaskView> streamViews(Specification<Task> spec, Sort sort, TaskFields fields) {
+        return viewQuery(spec, sort, fields)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+            .getResultStream();
+    }
+
+    private TypedQuery<TaskView> viewQuery(Specification<Task> spec, Sort sort, TaskFields fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> root = query.from(Task.class);
+
+        select(query, root, cb, fields);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    @Override
+    public Optional<TaskView> findViewById(Long id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> root = query.from(Task.class);
+
+        select(query, root, cb, TaskFields.ALL);
+        query.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public Page<TaskView> search(String query, Collection<Long> projectIds, Pageable pageable) {
+        String where = projectIds.isEmpty() ? SEARCH_FROM : SEARCH_FROM + SEARCH_PROJECT_FILTER;
+        String pattern = "%" + escapeLike(query) + "%";
+
+        Long total = jdbcTemplate.query("SELECT count(*) " + where,
+            ps -> bindSearch(ps, 1, query, pattern, projectIds),
+            rs -> rs.next() ? rs.getLong(1) : 0L);
+        if (total == null || total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total != null ? total : 0);
+        }
+
+        List<TaskView> hits = jdbcTemplate.query(SEARCH_SELECT + where + SEARCH_ORDER, ps -> {
+            ps.setString(1, query);
+            int next = bindSearch(ps, 2, query, pattern, projectIds);
+            ps.setInt(next, pageable.getPageSize());
+            ps.setLong(next + 1, pageable.getOffset());
+        }, VIEW_ROW_MAPPER);
+        return new PageImpl<>(hits, pageable, total);
+    }
+
+    /**
+     * Bind the parameters of SEARCH_FROM (and the project filter) starting at the given index
+     *
+     * @return Index of the next parameter
+     */
+    private int bindSearch(PreparedStatement ps, int index, String query, String pattern,
+                           Collection<Long> projectIds) throws SQLException {
+        ps.setString(index++, query);
+        ps.setString(index++, pattern);
+        ps.setString(index++, pattern);
+        if (!projectIds.isEmpty()) {
+            ps.setArray(index++, ps.getConnection().createArrayOf("bigint", projectIds.toArray()));
+        }
+        return index;
+    }
+
+    /**
+     * Escape LIKE wildcards so the search text is matched literally (backslash is the default escape character)
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public List<WorkloadEntry> findWorkload(Collection<Long> projectIds, LocalDate from, LocalDate to,
+                                            Set<DayOfWeek> workingDays, Set<LocalDate> holidays) {
+        if (projectIds.isEmpty() || workingDays.isEmpty()) {
+            return List.of();
+        }
+
+        Object[] isoDays = workingDays.stream().map(DayOfWeek::getValue).toArray();
+        Object[] holidayDates = holidays.stream().map(java.sql.Date::valueOf).toArray();
+
+        return jdbcTemplate.query(WORKLOAD_SQL, ps -> {
+            ps.setObject(1, from);
+            ps.setObject(2, to);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", projectIds.toArray()));
+            ps.setObject(4, to);
+            ps.setObject(5, from);
+            ps.setArray(6, ps.getConnection().createArrayOf("integer", isoDays));
+            ps.setArray(7, ps.getConnection().createArrayOf("date", holidayDates));
+        }, (rs, rowNum) -> WorkloadEntry.builder()
+            .assignee(rs.getString("assignee"))
+            .weekStart(rs.getObject("week_start", LocalDate.class))
+            .workingDays(rs.getInt("working_days"))
+            .taskCount(rs.getInt("task_count"))
+            .build());
+    }
+
+    @Override
+    public List<WbsNode> findWbsNodes(Long projectId, Long rootTaskId) {
+        String sql = String.format(WBS_SQL, rootTaskId != null ? WBS_SUBTREE_ROOT : WBS_PROJECT_ROOTS);
+
+        return jdbcTemplate.query(sql, ps -> {
+            ps.setLong(1, projectId);
+            if (rootTaskId != null) {
+                ps.setLong(2, rootTaskId);
+            }
+        }, (rs, rowNum) -> WbsNode.builder()
+            .task(VIEW_ROW_MAPPER.mapRow(rs, rowNum))
+            .depth(rs.getInt("depth"))
+            .childCount(rs.getInt("child_count"))
+            .descendantCount(rs.getInt("descendant_count"))
+            .build());
+    }
+
+    @Override
+    public void refreshRollups(Collection<Long> taskIds, long syncVersion) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.query(ANCESTORS_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds.toArray())),
+            (rs, rowNum) -> rs.getLong("id"));
+
+        // Statements of a batch run in order, so every parent sees its children's fresh rollups
+        int[][] updateCounts = jdbcTemplate.batchUpdate(REFRESH_ROLLUP_SQL, ids, BATCH_SIZE, (ps, id) -> {
+            ps.setLong(1, syncVersion);
+            ps.setLong(2, id);
+        });
+
+        // Unchanged rows are skipped by the statement and report 0
+        List<Long> changedIds = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    changedIds.add(ids.get(index));
+                }
+                index++;
+            }
+        }
+        cacheEvictor.evict(Task.class, changedIds);
+    }
+
+    @Override
+    public List<Long> findExternalParentIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(EXTERNAL_PARENTS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public Map<Long, Long> findSubtreeProjectIds(Collection<Long> rootIds) {
+        Map<Long, Long> projectIds = new HashMap<>();
+        if (rootIds.isEmpty()) {
+            return projectIds;
+        }
+
+        jdbcTemplate.query(SUBTREE_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", rootIds.toArray())),
+            (RowCallbackHandler) rs -> projectIds.put(rs.getLong("id"), rs.getLong("project_id")));
+        return projectIds;
+    }
+
+    @Override
+    public int deleteAllByIdInBulk(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = jdbcTemplate.update(DELETE_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+        cacheEvictor.evict(Task.class, ids);
+        cacheEvictor.evictQueryRegion(TaskRepository.TASK_CODE_CACHE_REGION);
+        return deleted;
+    }
+
+    /**
+     * Constructor expression in TaskView field order; project and parent ids are read from the foreign key columns
+     */
+    private void select(CriteriaQuery<TaskView> query, Root<Task> root, CriteriaBuilder cb, TaskFields fields) {
+        query.select(cb.construct(TaskView.class,
+            column(fields, "id", root.get("id"), cb),
+            column(fields, "projectId", root.get("project").get("id"), cb),
+            column(fields, "taskCode", root.get("taskCode"), cb),
+            column(fields, "name", root.get("name"), cb),
+            column(fields, "assignee", root.get("assignee"), cb),
+            column(fields, "startDate", root.get("startDate"), cb),
+            column(fields, "endDate", root.get("endDate"), cb),
+            column(fields, "progress", root.get("progress"), cb),
+            column(fields, "status", root.get("status"), cb),
+            column(fields, "parentTaskId", root.get("parentTask").get("id"), cb),
+            column(fields, "isMilestone", root.get("isMilestone"), cb),
+            column(fields, "notes", root.get("notes"), cb),
+            column(fields, "createdAt", root.get("createdAt"), cb),
+            column(fields, "updatedAt", root.get("updatedAt"), cb),
+            column(fields, "version", root.get("version"), cb),
+            column(fields, "rollupStartDate", root.get("rollupStartDate"), cb),
+            column(fields, "rollupEndDate", root.get("rollupEndDate"), cb),
+            column(fields, "rollupProgress", root.get("rollupProgress"), cb)
+        ));
+    }
+
+    /**
+     * The column of a requested field, or a typed NULL literal in its place so the column is not read
+     */
+    private static Expression<?> column(TaskFields fields, String field, Path<?> path, CriteriaBuilder cb) {
+        return fields.includes(field) ? path : cb.nullLiteral(path.getJavaType());
+    }
+}
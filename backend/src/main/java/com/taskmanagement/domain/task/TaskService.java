@@ -1,15 +1,47 @@
 package com.taskmanagement.domain.task;
 
+import com.taskmanagement.config.ReplicaRoutingDataSource;
 import com.taskmanagement.domain.project.Project;
+import com.taskmanagement.domain.project.ProjectDataVersion;
 import com.taskmanagement.domain.project.ProjectRepository;
+import com.taskmanagement.dto.request.BatchUpdateTasksRequest;
+import com.taskmanagement.dto.request.UpdateTaskRequest;
+import com.taskmanagement.dto.response.ApiResponse;
+import com.taskmanagement.dto.response.BatchUpdateResult;
+import com.taskmanagement.dto.response.GanttResponse;
+import com.taskmanagement.dto.response.TaskChangeMessage;
+import com.taskmanagement.dto.response.TaskDependencyView;
+import com.taskmanagement.dto.response.TaskSyncResponse;
+import com.taskmanagement.dto.response.TaskView;
+import com.taskmanagement.dto.response.WbsNode;
 import com.taskmanagement.util.CircularDependencyDetector;
 import com.taskmanagement.util.WorkingDayCalculator;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -17,22 +49,31 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TaskDependencyRepository dependencyRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
     private final ProjectRepository projectRepository;
     private final WorkingDayCalculator workingDayCalculator;
     private final CircularDependencyDetector circularDependencyDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration tombstoneRetention;
 
     public TaskService(
         TaskRepository taskRepository,
         TaskDependencyRepository dependencyRepository,
+        TaskTombstoneRepository tombstoneRepository,
         ProjectRepository projectRepository,
         WorkingDayCalculator workingDayCalculator,
-        CircularDependencyDetector circularDependencyDetector
+        CircularDependencyDetector circularDependencyDetector,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention
     ) {
         this.taskRepository = taskRepository;
         this.dependencyRepository = dependencyRepository;
+        this.tombstoneRepository = tombstoneRepository;
         this.projectRepository = projectRepository;
         this.workingDayCalculator = workingDayCalculator;
         this.circularDependencyDetector = circularDependencyDetector;
+        this.eventPublisher = eventPublisher;
+        this.tombstoneRetention = tombstoneRetention;
     }
 
     /**
@@ -44,19 +85,146 @@ public class TaskService {
     }
 
     /**
-     * Get tasks by project and date range
+     * Get read models of tasks matching a composable filter, in a single projection query
+     * Only the columns of the requested fields are read; the other fields stay null
      */
     @Transactional(readOnly = true)
-    public List<Task> getTasksByProjectAndDateRange(Long projectId, LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findByProjectIdAndDateRange(projectId, startDate, endDate);
+    public List<TaskView> getTaskViewsByFilter(TaskFilter filter, TaskFields fields) {
+        return taskRepository.findViews(TaskSpecifications.matching(filter), Sort.by("id"), null, fields);
     }
 
     /**
-     * Get tasks by project and status
+     * Hand read models of tasks matching a filter, ordered by id, to a consumer as they come off a database cursor
+     * Nothing is collected, so memory use does not grow with the number of tasks
      */
     @Transactional(readOnly = true)
-    public List<Task> getTasksByProjectAndStatus(Long projectId, String status) {
-        return taskRepository.findByProjectIdAndStatus(projectId, status);
+    public void streamTaskViews(TaskFilter filter, TaskFields fields, Consumer<TaskView> consumer) {
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        try (Stream<TaskView> tasks = taskRepository.streamViews(spec, Sort.by("id"), fields)) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    /**
+     * Get one keyset page of task read models matching a filter, ordered by id or by start date (ties broken by id)
+     * Fetches one extra row so the caller can tell whether another page exists
+     *
+     * @param filter Task filter (project is required)
+     * @param sort   {@link TaskCursor#SORT_ID} or {@link TaskCursor#SORT_START_DATE}
+     * @param after  Cursor of the last task of the previous page, or null for the first page
+     * @param limit  Page size
+     * @param fields Fields to read; the sort key is always read, as the next cursor is built from it
+     * @return Up to limit + 1 tasks
+     */
+    @Transactional(readOnly = true)
+    public List<TaskView> getTaskViewsByFilterPage(TaskFilter filter, String sort, TaskCursor after, int limit,
+                                                   TaskFields fields) {
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        if (after != null) {
+            spec = spec.and(TaskSpecifications.after(after));
+        }
+
+        return taskRepository.findViews(spec, TaskSpecifications.keysetSort(sort), limit + 1, fields.with(sort));
+    }
+
+    /**
+     * Get everything needed to draw a project's Gantt chart: task read models and dependency edges,
+     * loaded with one query each; only the columns of the requested task fields are read
+     */
+    @Transactional(readOnly = true)
+    public GanttResponse getGanttData(Long projectId, TaskFields fields) {
+        TaskFilter filter = TaskFilter.builder().projectId(projectId).build();
+        List<TaskView> tasks = taskRepository.findViews(
+            TaskSpecifications.matching(filter), Sort.by("id"), null, fields);
+        List<TaskDependencyView> dependencies = dependencyRepository.findViewsByProjectId(projectId);
+
+        return GanttResponse.builder()
+            .tasks(tasks)
+            .dependencies(dependencies)
+            .build();
+    }
+
+    /**
+     * Get a project's WBS, or one subtree of it, as nested nodes with rolled-up dates, progress and counts
+     *
+     * @param projectId  Project ID
+     * @param rootTaskId Root of the subtree, or null for the whole project
+     * @return Root nodes (a single node for a subtree) with their children linked
+     */
+    @Transactional(readOnly = true)
+    public List<WbsNode> getWbsTree(Long projectId, Long rootTaskId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+
+        List<WbsNode> nodes = taskRepository.findWbsNodes(projectId, rootTaskId);
+        if (rootTaskId != null && nodes.isEmpty()) {
+            throw new EntityNotFoundException("Task not found with id: " + rootTaskId + " in project: " + projectId);
+        }
+
+        // Depth-first order puts every parent before its children
+        Map<Long, WbsNode> nodesById = new HashMap<>();
+        List<WbsNode> roots = new ArrayList<>();
+        for (WbsNode node : nodes) {
+            WbsNode parent = nodesById.get(node.getTask().getParentTaskId());
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+            nodesById.put(node.getTask().getId(), node);
+        }
+        return roots;
+    }
+
+    /**
+     * Get what changed in a project since a data version: changed rows plus tombstones of deleted ones
+     * When since predates the pruned tombstones, deletions may be missing, so the response is a full resync
+     * instead (reset: all tasks and dependencies, no deleted ids)
+     *
+     * @param projectId Project ID
+     * @param since     Version the client is at (0 for everything)
+     * @return Changes and the version to pass as since next time
+     */
+    @Transactional(readOnly = true)
+    public TaskSyncResponse getChangesSince(Long projectId, long since) {
+        // Clients hold versions from the primary (responses, change events); a lagging replica would reject them
+        ReplicaRoutingDataSource.readFromPrimary();
+
+        // Read first: rows committed meanwhile may also be returned, and are simply re-sent next time
+        ProjectDataVersion current = projectRepository.findDataVersion(projectId)
+            .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+        if (since < 0 || since > current.getVersion()) {
+            throw new IllegalArgumentException("Version must be between 0 and " + current.getVersion());
+        }
+
+        boolean reset = since > 0 && since < tombstoneRepository.findHorizon(projectId);
+        long from = reset ? 0 : since;
+
+        TaskFilter filter = TaskFilter.builder().projectId(projectId).build();
+        Specification<Task> spec = TaskSpecifications.matching(filter).and(TaskSpecifications.changedSince(from));
+
+        return TaskSyncResponse.builder()
+            .version(current.getVersion())
+            .reset(reset)
+            .tasks(taskRepository.findViews(spec, Sort.by("id"), null))
+            .dependencies(dependencyRepository.findViewsByProjectIdChangedSince(projectId, from))
+            .deletedTaskIds(reset
+                ? List.of()
+                : tombstoneRepository.findDeletedIdsSince(projectId, TaskTombstone.TASK, since))
+            .deletedDependencyIds(reset
+                ? List.of()
+                : tombstoneRepository.findDeletedIdsSince(projectId, TaskTombstone.DEPENDENCY, since))
+            .build();
+    }
+
+    /**
+     * Delete tombstones older than the retention period (app.sync.tombstone-retention)
+     * Clients that last synced before them get a full resync from getChangesSince.
+     */
+    @Scheduled(cron = "${app.sync.tombstone-prune-cron:0 15 0 * * *}")
+    public void pruneTombstones() {
+        tombstoneRepository.pruneDeletedBefore(OffsetDateTime.now().minus(tombstoneRetention));
     }
 
     /**
@@ -68,6 +236,37 @@ public class TaskService {
             .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
     }
 
+    /**
+     * Get the read model of a task by ID
+     */
+    @Transactional(readOnly = true)
+    public TaskView getTaskViewById(Long id) {
+        return taskRepository.findViewById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+    }
+
+    /**
+     * Search tasks by code, name, assignee and notes, most relevant first
+     *
+     * @param query      Search text
+     * @param projectIds Projects to search, or empty for all projects
+     * @param page       Zero-based page number
+     * @param size       Page size
+     * @return Page of matching tasks
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskView> searchTasks(String query, List<Long> projectIds, int page, int size) {
+        String text = query != null ? query.trim() : "";
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (text.length() > 200) {
+            throw new IllegalArgumentException("Search query must be at most 200 characters");
+        }
+
+        return taskRepository.search(text, projectIds != null ? projectIds : List.of(), PageRequest.of(page, size));
+    }
+
     /**
      * Create a new task
      */
@@ -86,58 +285,236 @@ public class TaskService {
         task.setEndDate(workingDayCalculator.adjustToWorkingDay(task.getEndDate()));
 
         validateTask(task);
-        return taskRepository.save(task);
+        long version = projectRepository.nextDataVersion(projectId);
+        task.setSyncVersion(version);
+        Task savedTask = taskRepository.saveAndFlush(task);
+        projectRepository.addToSummary(projectId, List.of(savedTask.getId()));
+
+        List<TaskView> changed = refreshRollups(projectId, version, List.of(savedTask.getId()));
+        publishChange(TaskChangeMessage.builder()
+            .type(TaskChangeMessage.TASKS_CREATED)
+            .projectId(projectId)
+            .version(version)
+            .tasks(changed.stream().filter(view -> view.getId().equals(savedTask.getId())).toList())
+            .build());
+        publishSummaryChanges(projectId, version, changed, Set.of(savedTask.getId()));
+        return savedTask;
     }
 
     /**
      * Update an existing task
+     * Concurrent updates are detected through the task's row version; the losing one fails with
+     * ObjectOptimisticLockingFailureException instead of overwriting the other
+     *
+     * @param expectedVersion Version the client last read (from If-Match), or null to skip the check
      */
-    public Task updateTask(Long id, Task taskUpdates) {
+    public Task updateTask(Long id, Task taskUpdates, Long expectedVersion) {
         Task existingTask = getTaskById(id);
+        checkVersion(existingTask, expectedVersion);
+        Task previousParent = existingTask.getParentTask();
+        Long projectId = existingTask.getProject().getId();
 
-        // Update fields
-        if (taskUpdates.getName() != null) {
-            existingTask.setName(taskUpdates.getName());
-        }
-        if (taskUpdates.getAssignee() != null) {
-            existingTask.setAssignee(taskUpdates.getAssignee());
-        }
-        if (taskUpdates.getStartDate() != null) {
-            LocalDate adjustedStart = workingDayCalculator.adjustToWorkingDay(taskUpdates.getStartDate());
-            existingTask.setStartDate(adjustedStart);
-        }
-        if (taskUpdates.getEndDate() != null) {
-            LocalDate adjustedEnd = workingDayCalculator.adjustToWorkingDay(taskUpdates.getEndDate());
-            existingTask.setEndDate(adjustedEnd);
-        }
-        if (taskUpdates.getProgress() != null) {
-            existingTask.setProgress(taskUpdates.getProgress());
-        }
-        if (taskUpdates.getStatus() != null) {
-            existingTask.setStatus(taskUpdates.getStatus());
-        }
-        if (taskUpdates.getParentTask() != null) {
-            existingTask.setParentTask(taskUpdates.getParentTask());
+        // The stored row still has the previous values until the flush below
+        projectRepository.removeFromSummary(projectId, List.of(id));
+        applyUpdates(existingTask, taskUpdates);
+
+        validateTask(existingTask);
+        long version = projectRepository.nextDataVersion(projectId);
+        existingTask.setSyncVersion(version);
+
+        // Flushed so the rollups are computed from, and the pushed change carries, the new values
+        Task savedTask = taskRepository.saveAndFlush(existingTask);
+        projectRepository.addToSummary(projectId, List.of(id));
+
+        // A task moved to another parent also changes the rollups of its former ancestors
+        Set<Long> rollupRoots = new HashSet<>(List.of(id));
+        if (previousParent != null) {
+            rollupRoots.add(previousParent.getId());
         }
-        if (taskUpdates.getIsMilestone() != null) {
-            existingTask.setIsMilestone(taskUpdates.getIsMilestone());
+        publishChange(TaskChangeMessage.builder()
+            .type(TaskChangeMessage.TASKS_UPDATED)
+            .projectId(projectId)
+            .version(version)
+            .tasks(refreshRollups(projectId, version, rollupRoots))
+            .build());
+        return savedTask;
+    }
+
+    /**
+     * Apply many partial updates in one transaction
+     * The affected tasks and referenced parents are loaded with one query and written back in JDBC batches.
+     * Rejected items (unknown task or parent, invalid values) are reported and left unchanged.
+     *
+     * @param updates Partial updates, each with the id of the task to change
+     * @return One result per update, in request order
+     */
+    public List<BatchUpdateResult> updateTasks(List<BatchUpdateTasksRequest.TaskUpdate> updates) {
+        Set<Long> ids = new HashSet<>();
+        for (BatchUpdateTasksRequest.TaskUpdate update : updates) {
+            ids.add(update.getId());
+            if (update.getChanges().getParentTaskId() != null) {
+                ids.add(update.getChanges().getParentTaskId());
+            }
         }
-        if (taskUpdates.getNotes() != null) {
-            existingTask.setNotes(taskUpdates.getNotes());
+        Map<Long, Task> tasksById = taskRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<BatchUpdateResult> results = new ArrayList<>();
+        Map<Long, List<Task>> changedByProject = new HashMap<>();
+        Map<Long, Set<Long>> rollupRootsByProject = new HashMap<>();
+
+        for (BatchUpdateTasksRequest.TaskUpdate update : updates) {
+            Task task = tasksById.get(update.getId());
+            try {
+                if (task == null) {
+                    throw new EntityNotFoundException("Task not found with id: " + update.getId());
+                }
+                if (update.getVersion() != null && !update.getVersion().equals(task.getVersion())) {
+                    results.add(rejected(update.getId(), "CONFLICT",
+                        "Task was changed by another request; current version is " + task.getVersion()));
+                    continue;
+                }
+                Task taskUpdates = toTaskUpdates(update.getChanges(), tasksById);
+
+                // Validate on a copy first so a rejected item never leaves the managed entity dirty
+                Task candidate = copyOf(task);
+                applyUpdates(candidate, taskUpdates);
+                validateTask(candidate);
+
+                Set<Long> rollupRoots = rollupRootsByProject.computeIfAbsent(task.getProject().getId(),
+                    id -> new HashSet<>());
+                rollupRoots.add(task.getId());
+                if (task.getParentTask() != null) {
+                    rollupRoots.add(task.getParentTask().getId());
+                }
+
+                applyUpdates(task, taskUpdates);
+                changedByProject.computeIfAbsent(task.getProject().getId(), id -> new ArrayList<>()).add(task);
+                results.add(BatchUpdateResult.builder().id(update.getId()).success(true).build());
+            } catch (EntityNotFoundException e) {
+                results.add(rejected(update.getId(), "NOT_FOUND", e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                results.add(rejected(update.getId(), "BAD_REQUEST", e.getMessage()));
+            }
         }
 
-        validateTask(existingTask);
-        return taskRepository.save(existingTask);
+        // The changes are only applied in memory so far, so the stored rows still have the previous values
+        Map<Long, Long> versionByProject = new HashMap<>();
+        Map<Long, List<Long>> changedIdsByProject = new HashMap<>();
+        changedByProject.forEach((projectId, tasks) -> {
+            long version = projectRepository.nextDataVersion(projectId);
+            tasks.forEach(task -> task.setSyncVersion(version));
+            versionByProject.put(projectId, version);
+            List<Long> changedIds = tasks.stream().map(Task::getId).distinct().toList();
+            changedIdsByProject.put(projectId, changedIds);
+            projectRepository.removeFromSummary(projectId, changedIds);
+        });
+
+        // Dirty tasks are written here, batched by hibernate.jdbc.batch_size
+        taskRepository.flush();
+        changedIdsByProject.forEach(projectRepository::addToSummary);
+
+        Map<Long, TaskView> viewsById = new HashMap<>();
+        versionByProject.forEach((projectId, version) -> {
+            List<TaskView> views = refreshRollups(projectId, version, rollupRootsByProject.get(projectId));
+            views.forEach(view -> viewsById.put(view.getId(), view));
+            publishChange(TaskChangeMessage.builder()
+                .type(TaskChangeMessage.TASKS_UPDATED)
+                .projectId(projectId)
+                .version(version)
+                .tasks(views)
+                .build());
+        });
+        for (BatchUpdateResult result : results) {
+            if (result.isSuccess()) {
+                result.setTask(viewsById.get(result.getId()));
+            }
+        }
+        return results;
     }
 
     /**
      * Delete a task
      */
     public void deleteTask(Long id) {
+        Task task = getTaskById(id);
+        if (taskRepository.existsByParentTaskId(id)) {
+            throw new IllegalStateException("Task has subtasks; delete it with subtree=true to remove them as well");
+        }
+        Long projectId = task.getProject().getId();
+        long version = projectRepository.nextDataVersion(projectId);
+        tombstoneRepository.insertForTasks(projectId, version, List.of(id));
+        projectRepository.removeFromSummary(projectId, List.of(id));
+        Task parent = task.getParentTask();
+
+        taskRepository.delete(task);
+        taskRepository.flush();
+        List<TaskView> summaries = parent != null
+            ? refreshRollups(projectId, version, List.of(parent.getId()))
+            : List.of();
+        publishChange(TaskChangeMessage.builder()
+            .type(TaskChangeMessage.TASKS_DELETED)
+            .projectId(projectId)
+            .version(version)
+            .taskIds(List.of(id))
+            .build());
+        publishSummaryChanges(projectId, version, summaries, Set.of());
+    }
+
+    /**
+     * Delete a task together with all its descendants
+     *
+     * @return Number of deleted tasks
+     */
+    public int deleteTaskSubtree(Long id) {
         if (!taskRepository.existsById(id)) {
             throw new EntityNotFoundException("Task not found with id: " + id);
         }
-        taskRepository.deleteById(id);
+        return deleteSubtrees(List.of(id));
+    }
+
+    /**
+     * Delete many tasks together with all their descendants; unknown ids are ignored
+     *
+     * @return Number of deleted tasks
+     */
+    public int deleteTasks(Collection<Long> ids) {
+        return deleteSubtrees(ids);
+    }
+
+    /**
+     * Resolve the subtrees with a recursive CTE and delete them in one statement
+     * Dependencies of the deleted tasks are removed by ON DELETE CASCADE
+     */
+    private int deleteSubtrees(Collection<Long> rootIds) {
+        Map<Long, Long> projectIdsByTask = taskRepository.findSubtreeProjectIds(rootIds);
+
+        Map<Long, List<Long>> taskIdsByProject = new HashMap<>();
+        projectIdsByTask.forEach((taskId, projectId) ->
+            taskIdsByProject.computeIfAbsent(projectId, id -> new ArrayList<>()).add(taskId));
+
+        List<TaskChangeMessage> changes = new ArrayList<>();
+        Map<Long, Long> versionByProject = new HashMap<>();
+        Map<Long, List<Long>> parentIdsByProject = new HashMap<>();
+        taskIdsByProject.forEach((projectId, taskIds) -> {
+            long version = projectRepository.nextDataVersion(projectId);
+            tombstoneRepository.insertForTasks(projectId, version, taskIds);
+            projectRepository.removeFromSummary(projectId, taskIds);
+            versionByProject.put(projectId, version);
+            parentIdsByProject.put(projectId, taskRepository.findExternalParentIds(taskIds));
+            changes.add(TaskChangeMessage.builder()
+                .type(TaskChangeMessage.TASKS_DELETED)
+                .projectId(projectId)
+                .version(version)
+                .taskIds(taskIds)
+                .build());
+        });
+
+        int deleted = taskRepository.deleteAllByIdInBulk(projectIdsByTask.keySet());
+        changes.forEach(this::publishChange);
+        versionByProject.forEach((projectId, version) -> publishSummaryChanges(projectId, version,
+            refreshRollups(projectId, version, parentIdsByProject.get(projectId)), Set.of()));
+        return deleted;
     }
 
     /**
@@ -166,17 +543,37 @@ public class TaskService {
             .type(type != null ? type : "FS")
             .build();
 
-        return dependencyRepository.save(dependency);
+        Long projectId = task.getProject().getId();
+        long version = projectRepository.nextDataVersion(projectId);
+        dependency.setSyncVersion(version);
+
+        TaskDependency savedDependency = dependencyRepository.save(dependency);
+        publishChange(TaskChangeMessage.builder()
+            .type(TaskChangeMessage.DEPENDENCY_CREATED)
+            .projectId(projectId)
+            .version(version)
+            .dependency(toView(savedDependency))
+            .build());
+        return savedDependency;
     }
 
     /**
      * Delete a dependency
      */
     public void deleteDependency(Long dependencyId) {
-        if (!dependencyRepository.existsById(dependencyId)) {
-            throw new EntityNotFoundException("Dependency not found with id: " + dependencyId);
-        }
-        dependencyRepository.deleteById(dependencyId);
+        TaskDependency dependency = dependencyRepository.findById(dependencyId)
+            .orElseThrow(() -> new EntityNotFoundException("Dependency not found with id: " + dependencyId));
+        Long projectId = dependency.getTask().getProject().getId();
+        long version = projectRepository.nextDataVersion(projectId);
+        tombstoneRepository.insertForDependencies(projectId, version, List.of(dependencyId));
+
+        dependencyRepository.delete(dependency);
+        publishChange(TaskChangeMessage.builder()
+            .type(TaskChangeMessage.DEPENDENCY_DELETED)
+            .projectId(projectId)
+            .version(version)
+            .dependency(toView(dependency))
+            .build());
     }
 
     /**
@@ -195,6 +592,154 @@ public class TaskService {
         return dependencyRepository.findByPredecessorTaskId(predecessorTaskId);
     }
 
+    /**
+     * Get the version of a project's task data, or null if the project does not exist
+     * Reads only the project row, so it is cheap enough to check before every list or Gantt read
+     */
+    @Transactional(readOnly = true)
+    public ProjectDataVersion getProjectDataVersion(Long projectId) {
+        return projectRepository.findDataVersion(projectId).orElse(null);
+    }
+
+    /**
+     * Queue a change for the project's live viewers; it is sent once the transaction commits
+     * Writers bump the project data version first, which also revalidates cached task lists and Gantt payloads
+     */
+    private void publishChange(TaskChangeMessage change) {
+        eventPublisher.publishEvent(change);
+    }
+
+    /**
+     * Reject an update based on a stale read
+     */
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+    }
+
+    /**
+     * Refresh the persisted rollups along the ancestor paths of the given tasks
+     *
+     * @return Read models of every task the write changed, summary tasks with new rollups included
+     */
+    private List<TaskView> refreshRollups(Long projectId, long version, Collection<Long> taskIds) {
+        taskRepository.refreshRollups(taskIds, version);
+
+        TaskFilter filter = TaskFilter.builder().projectId(projectId).build();
+        Specification<Task> spec = TaskSpecifications.matching(filter).and(TaskSpecifications.changedAt(version));
+        return taskRepository.findViews(spec, Sort.by("id"), null);
+    }
+
+    /**
+     * Push the summary tasks whose rollups a write changed, leaving out the tasks already pushed
+     */
+    private void publishSummaryChanges(Long projectId, long version, List<TaskView> changed, Set<Long> pushedIds) {
+        List<TaskView> summaries = changed.stream().filter(view -> !pushedIds.contains(view.getId())).toList();
+        if (!summaries.isEmpty()) {
+            publishChange(TaskChangeMessage.builder()
+                .type(TaskChangeMessage.TASKS_UPDATED)
+                .projectId(projectId)
+                .version(version)
+                .tasks(summaries)
+                .build());
+        }
+    }
+
+    /**
+     * Copy non-null fields of the updates onto the task, moving dates to working days
+     */
+    private void applyUpdates(Task task, Task updates) {
+        if (updates.getName() != null) {
+            task.setName(updates.getName());
+        }
+        if (updates.getAssignee() != null) {
+            task.setAssignee(updates.getAssignee());
+        }
+        if (updates.getStartDate() != null) {
+            LocalDate adjustedStart = workingDayCalculator.adjustToWorkingDay(updates.getStartDate());
+            task.setStartDate(adjustedStart);
+        }
+        if (updates.getEndDate() != null) {
+            LocalDate adjustedEnd = workingDayCalculator.adjustToWorkingDay(updates.getEndDate());
+            task.setEndDate(adjustedEnd);
+        }
+        if (updates.getProgress() != null) {
+            task.setProgress(updates.getProgress());
+        }
+        if (updates.getStatus() != null) {
+            task.setStatus(updates.getStatus());
+        }
+        if (updates.getParentTask() != null) {
+            task.setParentTask(updates.getParentTask());
+        }
+        if (updates.getIsMilestone() != null) {
+            task.setIsMilestone(updates.getIsMilestone());
+        }
+        if (updates.getNotes() != null) {
+            task.setNotes(updates.getNotes());
+        }
+    }
+
+    /**
+     * Build the partial update of one batch item, resolving the parent from the preloaded tasks
+     */
+    private Task toTaskUpdates(UpdateTaskRequest request, Map<Long, Task> tasksById) {
+        Task updates = Task.builder()
+            .name(request.getName())
+            .assignee(request.getAssignee())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .progress(request.getProgress())
+            .status(request.getStatus())
+            .isMilestone(request.getIsMilestone())
+            .notes(request.getNotes())
+            .build();
+
+        if (request.getParentTaskId() != null) {
+            Task parentTask = tasksById.get(request.getParentTaskId());
+            if (parentTask == null) {
+                throw new EntityNotFoundException("Parent task not found with id: " + request.getParentTaskId());
+            }
+            updates.setParentTask(parentTask);
+        }
+        return updates;
+    }
+
+    private Task copyOf(Task task) {
+        return Task.builder()
+            .id(task.getId())
+            .project(task.getProject())
+            .taskCode(task.getTaskCode())
+            .name(task.getName())
+            .assignee(task.getAssignee())
+            .startDate(task.getStartDate())
+            .endDate(task.getEndDate())
+            .progress(task.getProgress())
+            .status(task.getStatus())
+            .parentTask(task.getParentTask())
+            .isMilestone(task.getIsMilestone())
+            .notes(task.getNotes())
+            .build();
+    }
+
+    private TaskDependencyView toView(TaskDependency dependency) {
+        return TaskDependencyView.builder()
+            .id(dependency.getId())
+            .taskId(dependency.getTask().getId())
+            .predecessorTaskId(dependency.getPredecessorTask().getId())
+            .type(dependency.getType())
+            .build();
+    }
+
+    private BatchUpdateResult rejected(Long id, String code, String message) {
+        return BatchUpdateResult.builder()
+            .id(id)
+            .success(false)
+            .error(ApiResponse.ApiError.builder().code(code).message(message).build())
+            .build();
+    }
+
     /**
      * Validate task constraints
      */
@@ -0,0 +1,91 @@
+package com.taskmanagement.domain.task;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA specifications for task queries
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Combine all criteria of the filter into one predicate
+     */
+    public static Specification<Task> matching(TaskFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            predicates.add(cb.equal(root.get("project").get("id"), filter.getProjectId()));
+
+            if (filter.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), filter.getTo()));
+            }
+            if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+                predicates.add(root.get("status").in(filter.getStatuses()));
+            }
+            if (filter.getAssignee() != null) {
+                predicates.add(cb.equal(root.get("assignee"), filter.getAssignee()));
+            }
+            if (filter.getMilestone() != null) {
+                predicates.add(cb.equal(root.get("isMilestone"), filter.getMilestone()));
+            }
+            if (filter.getParentTaskId() != null) {
+                predicates.add(cb.equal(root.get("parentTask").get("id"), filter.getParentTaskId()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset predicate selecting the tasks after the cursor in the cursor's sort order
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            if (TaskCursor.SORT_START_DATE.equals(cursor.getSort())) {
+                return cb.or(
+                    cb.greaterThan(root.get("startDate"), cursor.getStartDate()),
+                    cb.and(
+                        cb.equal(root.get("startDate"), cursor.getStartDate()),
+                        cb.greaterThan(root.get("id"), cursor.getId())
+                    )
+                );
+            }
+            return cb.greaterThan(root.get("id"), cursor.getId());
+        };
+    }
+
+    /**
+     * Tasks changed after the given project data version
+     */
+    public static Specification<Task> changedSince(long version) {
+        return (root, query, cb) -> cb.greaterThan(root.get("syncVersion"), version);
+    }
+
+    /**
+     * Tasks stamped with exactly the given project data version, i.e. changed by the write that took it
+     */
+    public static Specification<Task> changedAt(long version) {
+        return (root, query, cb) -> cb.equal(root.get("syncVersion"), version);
+    }
+
+    /**
+     * Stable sort matching the keyset for the given sort name
+     */
+    public static Sort keysetSort(String sort) {
+        if (TaskCursor.SORT_START_DATE.equals(sort)) {
+            return Sort.by("startDate", "id");
+        }
+        return Sort.by("id");
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.domain.task;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Marker left behind when a task or dependency is deleted, so delta sync can report the deletion
+ */
+@Entity
+@Table(name = "task_tombstone")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    public static final String TASK = "TASK";
+    public static final String DEPENDENCY = "DEPENDENCY";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "sync_version", nullable = false)
+    private Long syncVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
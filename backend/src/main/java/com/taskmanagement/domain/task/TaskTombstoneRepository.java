@@ -0,0 +1,20 @@
+package com.taskmanagement.domain.task;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long>, TaskTombstoneRepositoryCustom {
+
+    @Query("SELECT DISTINCT t.entityId FROM TaskTombstone t WHERE t.projectId = :projectId " +
+           "AND t.entityType = :entityType AND t.syncVersion > :since")
+    List<Long> findDeletedIdsSince(
+        @Param("projectId") Long projectId,
+        @Param("entityType") String entityType,
+        @Param("since") long since
+    );
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.domain.task;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+
+public interface TaskTombstoneRepositoryCustom {
+
+    /**
+     * Record tombstones for tasks about to be deleted, and for every dependency attached to them
+     * (those go with the tasks through ON DELETE CASCADE). Must run before the delete.
+     */
+    void insertForTasks(Long projectId, long syncVersion, Collection<Long> taskIds);
+
+    /**
+     * Record tombstones for dependencies about to be deleted
+     */
+    void insertForDependencies(Long projectId, long syncVersion, Collection<Long> dependencyIds);
+
+    /**
+     * Delete tombstones recorded before the cutoff, and raise each affected project's horizon
+     * to the highest version deleted
+     *
+     * @return Number of deleted tombstones
+     */
+    int pruneDeletedBefore(OffsetDateTime cutoff);
+
+    /**
+     * Highest version whose tombstones may have been pruned (0 if none were); changes since an older version
+     * cannot be reported completely
+     */
+    long findHorizon(Long projectId);
+}
@@ -0,0 +1,85 @@
+package com.taskmanagement.domain.task;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskTombstoneRepositoryImpl implements TaskTombstoneRepositoryCustom {
+
+    private static final String INSERT_TASKS_SQL =
+        "INSERT INTO task_tombstone (project_id, entity_type, entity_id, sync_version, deleted_at) " +
+        "SELECT ?, 'TASK', t.id, ?, CURRENT_TIMESTAMP FROM task t WHERE t.id = ANY (?)";
+
+    private static final String INSERT_TASK_DEPENDENCIES_SQL =
+        "INSERT INTO task_tombstone (project_id, entity_type, entity_id, sync_version, deleted_at) " +
+        "SELECT ?, 'DEPENDENCY', d.id, ?, CURRENT_TIMESTAMP FROM task_dependency d " +
+        "WHERE d.task_id = ANY (?) OR d.predecessor_task_id = ANY (?)";
+
+    private static final String INSERT_DEPENDENCIES_SQL =
+        "INSERT INTO task_tombstone (project_id, entity_type, entity_id, sync_version, deleted_at) " +
+        "SELECT ?, 'DEPENDENCY', d.id, ?, CURRENT_TIMESTAMP FROM task_dependency d WHERE d.id = ANY (?)";
+
+    // One statement, so the horizon always covers every deleted tombstone
+    private static final String PRUNE_SQL =
+        "WITH pruned AS (DELETE FROM task_tombstone WHERE deleted_at < ? RETURNING project_id, sync_version) " +
+        "INSERT INTO task_tombstone_horizon (project_id, sync_version) " +
+        "SELECT project_id, max(sync_version) FROM pruned GROUP BY project_id " +
+        "ON CONFLICT (project_id) DO UPDATE SET " +
+        "sync_version = GREATEST(task_tombstone_horizon.sync_version, EXCLUDED.sync_version) " +
+        "RETURNING (SELECT count(*) FROM pruned)";
+
+    private static final String HORIZON_SQL =
+        "SELECT sync_version FROM task_tombstone_horizon WHERE project_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskTombstoneRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertForTasks(Long projectId, long syncVersion, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(INSERT_TASK_DEPENDENCIES_SQL, ps -> {
+            ps.setLong(1, projectId);
+            ps.setLong(2, syncVersion);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+        });
+        jdbcTemplate.update(INSERT_TASKS_SQL, ps -> {
+            ps.setLong(1, projectId);
+            ps.setLong(2, syncVersion);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", taskIds.toArray()));
+        });
+    }
+
+    @Override
+    public void insertForDependencies(Long projectId, long syncVersion, Collection<Long> dependencyIds) {
+        if (dependencyIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(INSERT_DEPENDENCIES_SQL, ps -> {
+            ps.setLong(1, projectId);
+            ps.setLong(2, syncVersion);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", dependencyIds.toArray()));
+        });
+    }
+
+    @Override
+    public int pruneDeletedBefore(OffsetDateTime cutoff) {
+        List<Integer> counts = jdbcTemplate.query(PRUNE_SQL, (rs, rowNum) -> rs.getInt(1), cutoff);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public long findHorizon(Long projectId) {
+        List<Long> horizons = jdbcTemplate.query(HORIZON_SQL, (rs, rowNum) -> rs.getLong(1), projectId);
+        return horizons.isEmpty() ? 0 : horizons.get(0);
+    }
+}
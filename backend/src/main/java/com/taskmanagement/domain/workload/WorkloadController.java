@@ -0,0 +1,39 @@
+package com.taskmanagement.domain.workload;
+
+import com.taskmanagement.dto.response.ApiResponse;
+import com.taskmanagement.dto.response.WorkloadEntry;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workload")
+@CrossOrigin(origins = "*")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    public WorkloadController(WorkloadService workloadService) {
+        this.workloadService = workloadService;
+    }
+
+    /**
+     * GET /api/workload?projectId=1,2&from=2025-01-06&to=2025-03-30 - Working days per assignee and week
+     * Counts working days (per the working day calendar) of assigned, non-milestone tasks within the range
+     *
+     * @param projectId Projects to aggregate (repeatable or comma-separated)
+     * @param from      First day of the range (inclusive)
+     * @param to        Last day of the range (inclusive, at most 366 days after from)
+     */
+    @GetMapping
+    public ApiResponse<List<WorkloadEntry>> getWorkload(
+        @RequestParam List<Long> projectId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<WorkloadEntry> workload = workloadService.getWorkload(projectId, from, to);
+        return ApiResponse.success(workload);
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskmanagement.domain.workload;
+
+import com.taskmanagement.domain.project.ProjectDataVersion;
+import com.taskmanagement.domain.project.ProjectRepository;
+import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.dto.response.WorkloadEntry;
+import com.taskmanagement.util.WorkingDayCalculator;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Service for assignee workload across projects
+ * Aggregation runs in the database; results are cached until one of the projects' data versions changes
+ */
+@Service
+public class WorkloadService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_CACHED_RESULTS = 256;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final WorkingDayCalculator workingDayCalculator;
+
+    // Least recently used results, keyed by project ids and date range
+    private final Map<String, CachedWorkload> cache = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedWorkload> eldest) {
+                return size() > MAX_CACHED_RESULTS;
+            }
+        });
+
+    public WorkloadService(TaskRepository taskRepository,
+                           ProjectRepository projectRepository,
+                           WorkingDayCalculator workingDayCalculator) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.workingDayCalculator = workingDayCalculator;
+    }
+
+    /**
+     * Get working days and task counts per assignee and week
+     *
+     * @param projectIds Projects to aggregate
+     * @param from       First day of the range (inclusive)
+     * @param to         Last day of the range (inclusive)
+     * @return Entries ordered by assignee and week
+     */
+    @Transactional(readOnly = true)
+    public List<WorkloadEntry> getWorkload(Collection<Long> projectIds, LocalDate from, LocalDate to) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one project ID is required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Set<Long> ids = new TreeSet<>(projectIds);
+
+        // Versions are read before the tasks, so a cached result is never older than the versions it is stored with
+        Map<Long, Long> versions = projectRepository.findDataVersions(ids).stream()
+            .collect(Collectors.toMap(ProjectDataVersion::getProjectId, ProjectDataVersion::getVersion));
+        if (versions.size() < ids.size()) {
+            ids.removeAll(versions.keySet());
+            throw new EntityNotFoundException("Project not found with id: " + ids.iterator().next());
+        }
+
+        Set<DayOfWeek> workingDays = workingDayCalculator.getWorkingDays();
+        Set<LocalDate> holidays = workingDayCalculator.getHolidays();
+
+        String key = ids + ":" + from + ":" + to;
+        CachedWorkload cached = cache.get(key);
+        if (cached != null && cached.matches(versions, workingDays, holidays)) {
+            return cached.entries;
+        }
+
+        List<WorkloadEntry> entries = taskRepository.findWorkload(ids, from, to, workingDays, holidays);
+        cache.put(key, new CachedWorkload(versions, workingDays, holidays, entries));
+        return entries;
+    }
+
+    /**
+     * Workload result with the project versions and calendar it was computed from
+     */
+    private static final class CachedWorkload {
+        private final Map<Long, Long> versions;
+        private final Set<DayOfWeek> workingDays;
+        private final Set<LocalDate> holidays;
+        private final List<WorkloadEntry> entries;
+
+        private CachedWorkload(Map<Long, Long> versions, Set<DayOfWeek> workingDays, Set<LocalDate> holidays,
+                               List<WorkloadEntry> entries) {
+            this.versions = versions;
+            this.workingDays = workingDays;
+            this.holidays = holidays;
+            this.entries = List.copyOf(entries);
+        }
+
+        private boolean matches(Map<Long, Long> versions, Set<DayOfWeek> workingDays, Set<LocalDate> holidays) {
+            return this.versions.equals(versions)
+                && this.workingDays.equals(workingDays)
+                && this.holidays.equals(holidays);
+        }
+    }
+}
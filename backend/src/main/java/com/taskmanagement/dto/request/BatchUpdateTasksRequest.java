@@ -0,0 +1,40 @@
+package com.taskmanagement.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpdateTasksRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@Valid TaskUpdate> updates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaskUpdate {
+
+        @NotNull(message = "Task ID is required")
+        private Long id;
+
+        // Version the client last read; when set, the update is rejected if the task changed since
+        private Long version;
+
+        @Valid
+        @NotNull(message = "Changes are required")
+        private UpdateTaskRequest changes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteTasksRequest {
+
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be deleted at once")
+    private List<Long> ids;
+}
@@ -1,9 +1,11 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -29,6 +31,23 @@ public class ApiResponse<T> {
     public static class Meta {
         private String requestId;
         private OffsetDateTime timestamp;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private PageInfo page;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageInfo {
+        private Integer number;
+        private Integer size;
+        private Long totalElements;
+        private Integer totalPages;
     }
 
     @Data
@@ -51,6 +70,33 @@ public class ApiResponse<T> {
             .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, String nextCursor) {
+        return ApiResponse.<T>builder()
+            .data(data)
+            .meta(Meta.builder()
+                .requestId(UUID.randomUUID().toString())
+                .timestamp(OffsetDateTime.now())
+                .nextCursor(nextCursor)
+                .build())
+            .build();
+    }
+
+    public static <T> ApiResponse<List<T>> success(Page<T> page) {
+        return ApiResponse.<List<T>>builder()
+            .data(page.getContent())
+            .meta(Meta.builder()
+                .requestId(UUID.randomUUID().toString())
+                .timestamp(OffsetDateTime.now())
+                .page(PageInfo.builder()
+                    .number(page.getNumber())
+                    .size(page.getSize())
+                    .totalElements(page.getTotalElements())
+                    .totalPages(page.getTotalPages())
+                    .build())
+                .build())
+            .build();
+    }
+
     public static <T> ApiResponse<T> error(String code, String message) {
         return ApiResponse.<T>builder()
             .errors(List.of(ApiError.builder()
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch task update
+ * Successful items carry the updated task; rejected items carry the error and were not applied
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchUpdateResult {
+    private Long id;
+    private boolean success;
+    private TaskView task;
+    private ApiResponse.ApiError error;
+}
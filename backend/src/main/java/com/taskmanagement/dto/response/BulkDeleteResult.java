@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for bulk task deletion
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResult {
+    private Integer deletedCount; // Requested tasks plus all their subtasks
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a streamed (NDJSON) dry-run
+ * Types: "started", "error", "progress", "complete" and "failed"
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DryRunEvent {
+    private String type;
+    private Integer rowsValidated;
+    private Integer totalRows;
+    private Integer errorCount;
+    private ValidationError error;
+    private Boolean aborted;
+    private ImportJobResponse importJob;
+    private String message;
+}
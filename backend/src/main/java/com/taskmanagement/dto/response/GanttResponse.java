@@ -0,0 +1,21 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for drawing a project's Gantt chart in one call
+ * Dependencies reference tasks by id instead of embedding them
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GanttResponse {
+    private List<TaskView> tasks;
+    private List<TaskDependencyView> dependencies;
+}
@@ -21,7 +21,7 @@ public class ImportJobResponse {
     private String status;
     private LocalDateTime executedAt;
     private ImportSummary summary;
-    private List<ValidationError> errors;
+    private List<ValidationError> errors; // First errors only; see summary.errorCount for the total
 
     @Data
     @Builder
@@ -34,5 +34,6 @@ public class ImportJobResponse {
         private Integer tasksCreated;
         private Integer tasksUpdated;
         private Integer dependenciesCreated;
+        private Integer errorCount;
     }
 }
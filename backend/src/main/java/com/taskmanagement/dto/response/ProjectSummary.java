@@ -0,0 +1,27 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Task statistics of one project, read from the materialized project_summary row
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummary {
+    private Integer taskCount;
+    private Map<String, Integer> tasksByStatus;  // Every task status, zero counts included
+    private Integer overdueCount;                // Not done and ending before asOf
+    private LocalDate startDate;                 // Earliest task start, null without tasks
+    private LocalDate endDate;                   // Latest task end, null without tasks
+    private BigDecimal averageProgress;          // Over leaf tasks, null without tasks
+    private LocalDate asOf;                      // Date the overdue count was computed for
+}
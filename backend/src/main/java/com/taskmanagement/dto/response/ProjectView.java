@@ -0,0 +1,28 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Read model for the project list: the project's fields plus its task statistics, selected in one query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectView {
+    private Long id;
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+    private Long version;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private ProjectSummary summary;
+}
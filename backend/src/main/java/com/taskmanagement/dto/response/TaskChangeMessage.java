@@ -0,0 +1,35 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Change event pushed to the viewers of a project once the changing transaction has committed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeMessage {
+
+    public static final String TASKS_CREATED = "tasks.created";
+    public static final String TASKS_UPDATED = "tasks.updated";
+    public static final String TASKS_DELETED = "tasks.deleted";
+    public static final String DEPENDENCY_CREATED = "dependency.created";
+    public static final String DEPENDENCY_DELETED = "dependency.deleted";
+    // Too many changes to describe (import, rollback): viewers should reload the project
+    public static final String PROJECT_RELOAD = "project.reload";
+
+    private String type;
+    private Long projectId;
+    private Long version;                  // Project data version after the change (see delta sync)
+    private List<TaskView> tasks;          // tasks.created, tasks.updated
+    private List<Long> taskIds;            // tasks.deleted
+    private TaskDependencyView dependency; // dependency.created, dependency.deleted
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for a dependency edge, referencing both tasks by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependencyView {
+    private Long id;
+    private Long taskId;
+    private Long predecessorTaskId;
+    private String type;
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for delta sync: what changed in a project since a given data version
+ * Clients apply it to their cache and pass version as "since" on the next call
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSyncResponse {
+    private Long version;
+    private boolean reset;                          // Full resync: tasks and dependencies are the complete set
+    private List<TaskView> tasks;                   // Created or updated since the given version
+    private List<TaskDependencyView> dependencies;  // Created since the given version
+    private List<Long> deletedTaskIds;
+    private List<Long> deletedDependencyIds;
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Read model for task list and detail responses
+ * Selected directly by projection queries, so no Task entity is loaded into the persistence context
+ * Serialized through a named filter, so sparse fieldset requests can leave out unrequested properties
+ */
+@JsonFilter(TaskView.FIELDS_FILTER)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskView {
+
+    public static final String FIELDS_FILTER = "taskViewFields";
+
+    private Long id;
+    private Long projectId;
+    private String taskCode;
+    private String name;
+    private String assignee;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Short progress;
+    private String status;
+    private Long parentTaskId;
+    private Boolean isMilestone;
+    private String notes;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private Long version;               // Row version, sent back as If-Match on updates
+    private LocalDate rollupStartDate;  // Earliest start date in the task's subtree, the task included
+    private LocalDate rollupEndDate;    // Latest end date in the task's subtree
+    private Short rollupProgress;       // Leaf progress in the subtree, weighted by leaf duration
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task in a WBS tree; the values rolled up over its subtree are the task's rollup fields
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WbsNode {
+    private TaskView task;
+    private Integer depth;  // 0 for the tree roots
+    private Integer childCount;
+    private Integer descendantCount;
+
+    @Builder.Default
+    private List<WbsNode> children = new ArrayList<>();
+}
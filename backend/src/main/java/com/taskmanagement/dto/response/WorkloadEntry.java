@@ -0,0 +1,22 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Working days allocated to one assignee in one week
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadEntry {
+    private String assignee;
+    private LocalDate weekStart;    // Monday of the ISO week
+    private Integer workingDays;    // Sum over tasks of their working days within the week and requested range
+    private Integer taskCount;      // Tasks with at least one working day in the week
+}
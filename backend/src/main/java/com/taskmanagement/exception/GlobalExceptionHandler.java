@@ -1,5 +1,7 @@
 package com.taskmanagement.exception;
 
+import com.taskmanagement.domain.importjob.ImportRollbackConflictException;
+import com.taskmanagement.domain.importjob.parser.DecompressedSizeExceededException;
 import com.taskmanagement.dto.response.ApiResponse;
 import com.taskmanagement.dto.response.ApiResponse.ApiError;
 import jakarta.persistence.EntityNotFoundException;
@@ -7,6 +9,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -45,6 +48,17 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("BAD_REQUEST", ex.getMessage()));
     }
 
+    /**
+     * Handle compressed uploads whose content exceeds the decompression limit (413)
+     */
+    @ExceptionHandler(DecompressedSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<ApiResponse<Void>> handleDecompressedSizeExceeded(DecompressedSizeExceededException ex) {
+        return ResponseEntity
+            .status(HttpStatus.PAYLOAD_TOO_LARGE)
+            .body(ApiResponse.error("PAYLOAD_TOO_LARGE", ex.getMessage()));
+    }
+
     /**
      * Handle validation errors from @Valid annotations (400)
      */
@@ -109,6 +123,37 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("TYPE_MISMATCH", message));
     }
 
+    /**
+     * Handle optimistic locking conflicts: the entity changed after the client read it (409)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        String entity = ex.getPersistentClassName() != null
+            ? ex.getPersistentClassName().substring(ex.getPersistentClassName().lastIndexOf('.') + 1)
+            : "Resource";
+        String message = String.format(
+            "%s with id %s was changed by another request. Reload it and try again.",
+            entity,
+            ex.getIdentifier()
+        );
+
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error("CONFLICT", message));
+    }
+
+    /**
+     * Handle rollbacks refused because the import's tasks changed since (409)
+     */
+    @ExceptionHandler(ImportRollbackConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<Void>> handleImportRollbackConflict(ImportRollbackConflictException ex) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error("CONFLICT", ex.getMessage()));
+    }
+
     /**
      * Handle illegal state exceptions (422)
      */
@@ -0,0 +1,84 @@
+package com.taskmanagement.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact probabilistic set of strings.
+ * A negative answer from {@link #mightContain(String)} is definite; a positive answer may be a false positive
+ * and must be confirmed against the source of truth.
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * Create a filter sized for the expected number of entries and target false positive rate
+     *
+     * @param expectedEntries   Expected number of entries
+     * @param falsePositiveRate Target false positive rate (between 0 and 1, exclusive)
+     */
+    public BloomFilter(int expectedEntries, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        int entries = Math.max(expectedEntries, 1);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+        this.bits = new long[(bitCount + 63) / 64];
+    }
+
+    /**
+     * Add a value to the filter
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * Check if a value might be in the filter
+     *
+     * @return false if the value was definitely never added, true if it probably was
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a hash over UTF-8 bytes, finalized with the MurmurHash3 mixer
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanagement.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts second-level cache entries for rows written with plain JDBC, which Hibernate does not see.
+ * Entries are evicted right away, so the current transaction reads through to the database, and again
+ * after the transaction completes, so a concurrent reader cannot leave the pre-commit row in the cache.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evict the given rows of an entity
+     */
+    public void evict(Class<?> entityClass, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<?> evictedIds = List.copyOf(ids);
+        evictNowAndAfterCompletion(() -> evictedIds.forEach(id -> cache.evictEntityData(entityClass, id)));
+    }
+
+    /**
+     * Evict every row of an entity, for writes whose affected ids are not known
+     */
+    public void evictAll(Class<?> entityClass) {
+        evictNowAndAfterCompletion(() -> cache.evictEntityData(entityClass));
+    }
+
+    /**
+     * Evict the cached results of the queries in a named query cache region
+     */
+    public void evictQueryRegion(String regionName) {
+        evictNowAndAfterCompletion(() -> cache.evictQueryRegion(regionName));
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
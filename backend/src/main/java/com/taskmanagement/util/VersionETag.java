@@ -0,0 +1,42 @@
+package com.taskmanagement.util;
+
+/**
+ * Entity row versions as HTTP entity tags, for If-Match based optimistic locking
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    /**
+     * Format a row version as a strong ETag
+     */
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Read the expected row version from an If-Match header value
+     * Accepts "3", W/"3" and a bare 3; weak tags compare like strong ones because versions are exact
+     *
+     * @return The version, or null when the header is absent or "*" (no check)
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single version ETag, got: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- Per-project version of task and dependency data, bumped by the application on every change.
+-- Serves as ETag/Last-Modified for task list and Gantt reads without scanning the task table.
+ALTER TABLE project ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN data_modified_at TIMESTAMPTZ NOT NULL DEFAULT now();
@@ -0,0 +1,19 @@
+-- Project data version of each row's last change, so clients can fetch only what changed since a version.
+-- Versions come from project.data_version, which writers bump under the project row lock,
+-- so they follow commit order within a project (unlike updated_at timestamps).
+ALTER TABLE task ADD COLUMN sync_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_dependency ADD COLUMN sync_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_task_project_sync ON task(project_id, sync_version);
+
+-- Deleted tasks and dependencies, kept so delta sync can report deletions
+CREATE TABLE task_tombstone (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES project(id) ON DELETE CASCADE,
+    entity_type VARCHAR(16) NOT NULL CHECK (entity_type IN ('TASK', 'DEPENDENCY')),
+    entity_id BIGINT NOT NULL,
+    sync_version BIGINT NOT NULL,
+    deleted_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_task_tombstone_project_sync ON task_tombstone(project_id, sync_version);
@@ -0,0 +1,18 @@
+-- Full-text search over task code, name, assignee and notes
+-- The 'simple' configuration neither stems nor drops stop words, so codes, names and mixed-language text
+-- are matched as written
+ALTER TABLE task ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(task_code, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(assignee, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_task_search_vector ON task USING GIN (search_vector);
+
+-- Trigram indexes answer substring matches (ILIKE '%...%') on partial codes and names,
+-- including text that has no word boundaries for the full-text parser
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_task_code_trgm ON task USING GIN (task_code gin_trgm_ops);
+CREATE INDEX idx_task_name_trgm ON task USING GIN (name gin_trgm_ops);
@@ -0,0 +1,37 @@
+-- Values rolled up over each task's subtree (the task itself included), kept up to date by the application
+-- along the ancestor path of every changed task, so summary tasks read them without walking the tree.
+-- Progress is weighted by leaf duration in calendar days: rollup_progress = rollup_progress_days / rollup_work_days
+ALTER TABLE task ADD COLUMN rollup_start_date DATE;
+ALTER TABLE task ADD COLUMN rollup_end_date DATE;
+ALTER TABLE task ADD COLUMN rollup_progress SMALLINT;
+ALTER TABLE task ADD COLUMN rollup_work_days INTEGER;
+ALTER TABLE task ADD COLUMN rollup_progress_days BIGINT;
+
+-- Backfill existing tasks: pair every task with each of its ancestors and aggregate per ancestor
+WITH RECURSIVE tree (id, path) AS (
+    SELECT id, ARRAY[id] FROM task WHERE parent_task_id IS NULL
+    UNION ALL
+    SELECT c.id, p.path || c.id FROM task c JOIN tree p ON c.parent_task_id = p.id WHERE c.id <> ALL (p.path)
+), leaf AS (
+    SELECT t.id, t.start_date, t.end_date, t.progress, t.end_date - t.start_date + 1 AS days,
+           NOT EXISTS (SELECT 1 FROM task x WHERE x.parent_task_id = t.id) AS is_leaf
+    FROM task t
+), rollup AS (
+    SELECT a.ancestor_id,
+           min(l.start_date) AS start_date,
+           max(l.end_date) AS end_date,
+           sum(l.days) FILTER (WHERE l.is_leaf) AS work_days,
+           sum(l.progress * l.days) FILTER (WHERE l.is_leaf) AS progress_days
+    FROM tree d
+    CROSS JOIN LATERAL unnest(d.path) AS a (ancestor_id)
+    JOIN leaf l ON l.id = d.id
+    GROUP BY a.ancestor_id
+)
+UPDATE task SET
+    rollup_start_date = r.start_date,
+    rollup_end_date = r.end_date,
+    rollup_work_days = r.work_days,
+    rollup_progress_days = r.progress_days,
+    rollup_progress = CAST(round(r.progress_days / CAST(r.work_days AS numeric)) AS SMALLINT)
+FROM rollup r
+WHERE task.id = r.ancestor_id;
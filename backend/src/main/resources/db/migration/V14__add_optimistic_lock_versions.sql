@@ -0,0 +1,4 @@
+-- Row versions for optimistic locking (JPA @Version): every update checks and bumps them,
+-- so concurrent edits of the same task or project are detected instead of overwriting each other
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
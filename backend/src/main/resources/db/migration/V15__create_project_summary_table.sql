@@ -0,0 +1,39 @@
+-- Task statistics per project for the project list, so it needs no aggregate query per project.
+-- Refreshed by the application when a transaction changed the project's tasks, and once a day because
+-- overdue_count depends on the date (as_of).
+CREATE TABLE project_summary (
+    project_id BIGINT PRIMARY KEY REFERENCES project(id) ON DELETE CASCADE,
+    task_count INTEGER NOT NULL,
+    planned_count INTEGER NOT NULL,
+    in_progress_count INTEGER NOT NULL,
+    done_count INTEGER NOT NULL,
+    blocked_count INTEGER NOT NULL,
+    on_hold_count INTEGER NOT NULL,
+    overdue_count INTEGER NOT NULL,
+    start_date DATE,
+    end_date DATE,
+    average_progress NUMERIC(5, 2),
+    as_of DATE NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL
+);
+
+-- Same statement as ProjectRepositoryImpl#refreshSummaries; average progress is over leaf tasks only
+INSERT INTO project_summary (project_id, task_count, planned_count, in_progress_count, done_count, blocked_count,
+                             on_hold_count, overdue_count, start_date, end_date, average_progress, as_of, refreshed_at)
+SELECT p.id,
+       count(t.id),
+       count(t.id) FILTER (WHERE t.status = 'planned'),
+       count(t.id) FILTER (WHERE t.status = 'in_progress'),
+       count(t.id) FILTER (WHERE t.status = 'done'),
+       count(t.id) FILTER (WHERE t.status = 'blocked'),
+       count(t.id) FILTER (WHERE t.status = 'on_hold'),
+       count(t.id) FILTER (WHERE t.status <> 'done' AND t.end_date < CURRENT_DATE),
+       min(t.start_date),
+       max(t.end_date),
+       round(avg(t.progress) FILTER (WHERE NOT EXISTS (
+           SELECT 1 FROM task c WHERE c.project_id = t.project_id AND c.parent_task_id = t.id)), 2),
+       CURRENT_DATE,
+       now()
+FROM project p
+LEFT JOIN task t ON t.project_id = p.id
+GROUP BY p.id;
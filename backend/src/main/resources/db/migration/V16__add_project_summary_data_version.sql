@@ -0,0 +1,6 @@
+-- Project data version a summary was fully computed at; task writes only adjust the counts, and the
+-- scheduled refresh recomputes every summary that is behind its project's data version.
+ALTER TABLE project_summary ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
+
+-- Summaries were all computed by the V15 backfill, from the current data
+UPDATE project_summary s SET data_version = p.data_version FROM project p WHERE p.id = s.project_id;
@@ -0,0 +1,11 @@
+-- Delta sync of dependencies looks up each project task's dependencies changed after a version
+CREATE INDEX idx_task_dependency_task_sync ON task_dependency(task_id, sync_version);
+
+-- Tombstones are pruned after a retention period. Per project, the highest pruned version is kept:
+-- a client whose since is below it may have missed deletions and gets a full resync instead.
+CREATE TABLE task_tombstone_horizon (
+    project_id BIGINT PRIMARY KEY REFERENCES project(id) ON DELETE CASCADE,
+    sync_version BIGINT NOT NULL
+);
+
+CREATE INDEX idx_task_tombstone_deleted_at ON task_tombstone(deleted_at);
@@ -0,0 +1,4 @@
+-- Project data version a committed import wrote its rows at. A rollback is refused when any row the
+-- import created or overwrote has changed since, so later edits are not overwritten or deleted.
+-- NULL for dry runs, failed jobs and jobs committed before this column existed.
+ALTER TABLE import_job ADD COLUMN data_version BIGINT;
@@ -0,0 +1,15 @@
+-- Persist validation/import errors per job so they can be paged instead of inlined in the response
+CREATE TABLE import_job_error (
+    id BIGSERIAL PRIMARY KEY,
+    import_job_id BIGINT NOT NULL REFERENCES import_job(id) ON DELETE CASCADE,
+    line_number INTEGER,
+    field VARCHAR(64),
+    invalid_value TEXT,
+    error_code VARCHAR(64),
+    error_message TEXT
+);
+
+-- Paging in file order, optionally filtered by error code or field
+CREATE INDEX idx_import_job_error_line ON import_job_error(import_job_id, line_number, id);
+CREATE INDEX idx_import_job_error_code ON import_job_error(import_job_id, error_code);
+CREATE INDEX idx_import_job_error_field ON import_job_error(import_job_id, field);
@@ -0,0 +1,25 @@
+-- Allow committed import jobs to be marked as rolled back
+ALTER TABLE import_job DROP CONSTRAINT import_job_status_check;
+ALTER TABLE import_job ADD CONSTRAINT import_job_status_check
+    CHECK (status IN ('PENDING', 'DRY_RUN', 'SUCCESS', 'PARTIAL', 'FAILED', 'ROLLED_BACK'));
+
+-- Changes made by a committed import job, recorded so the job can be reverted in a few set-based statements.
+-- TASK_UPDATED rows keep the values the import overwrote; created rows only need the entity id.
+CREATE TABLE import_job_change (
+    id BIGSERIAL PRIMARY KEY,
+    import_job_id BIGINT NOT NULL REFERENCES import_job(id) ON DELETE CASCADE,
+    change_type VARCHAR(24) NOT NULL
+        CHECK (change_type IN ('TASK_CREATED', 'TASK_UPDATED', 'DEPENDENCY_CREATED')),
+    entity_id BIGINT NOT NULL,
+    prior_name VARCHAR(255),
+    prior_assignee VARCHAR(120),
+    prior_start_date DATE,
+    prior_end_date DATE,
+    prior_progress SMALLINT,
+    prior_status VARCHAR(32),
+    prior_parent_task_id BIGINT,
+    prior_is_milestone BOOLEAN,
+    prior_notes TEXT
+);
+
+CREATE INDEX idx_import_job_change_job ON import_job_change(import_job_id, change_type, entity_id);
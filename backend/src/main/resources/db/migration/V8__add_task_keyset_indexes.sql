@@ -0,0 +1,6 @@
+-- Keyset pagination of a project's tasks by id and by start date (ties broken by id)
+CREATE INDEX idx_task_project_id ON task(project_id, id);
+CREATE INDEX idx_task_project_start ON task(project_id, start_date, id);
+
+-- Covered by the leading column of idx_task_project_id
+DROP INDEX idx_task_project;
@@ -0,0 +1,10 @@
+-- Composite indexes for the composable task filter, all led by project_id
+-- Date windows alone use idx_task_project_start (project_id, start_date, id)
+CREATE INDEX idx_task_project_status_start ON task(project_id, status, start_date);
+CREATE INDEX idx_task_project_assignee_start ON task(project_id, assignee, start_date);
+CREATE INDEX idx_task_project_parent ON task(project_id, parent_task_id);
+CREATE INDEX idx_task_project_milestone_start ON task(project_id, start_date) WHERE is_milestone;
+
+-- Superseded by the project-led indexes above
+DROP INDEX idx_task_status;
+DROP INDEX idx_task_dates;
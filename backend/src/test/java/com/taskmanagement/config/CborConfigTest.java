@@ -0,0 +1,47 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborConfigTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 6);
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new CborConfig().cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+    }
+
+    @Test
+    void testWritesLocalDateAsEpochDays() throws Exception {
+        byte[] cbor = mapper.writeValueAsBytes(Map.of("startDate", DATE));
+
+        Map<?, ?> read = mapper.readValue(cbor, Map.class);
+        assertEquals(DATE.toEpochDay(), ((Number) read.get("startDate")).longValue());
+    }
+
+    @Test
+    void testReadsEpochDaysAsLocalDate() throws Exception {
+        assertEquals(DATE, mapper.readValue(mapper.writeValueAsBytes(DATE.toEpochDay()), LocalDate.class));
+        assertEquals(LocalDate.of(1970, 1, 1), mapper.readValue(mapper.writeValueAsBytes(0), LocalDate.class));
+    }
+
+    @Test
+    void testReadsIsoStringsAsLocalDate() throws Exception {
+        assertEquals(DATE, mapper.readValue(mapper.writeValueAsBytes("2025-01-06"), LocalDate.class));
+    }
+
+    @Test
+    void testRoundTripsLocalDate() throws Exception {
+        assertEquals(DATE, mapper.readValue(mapper.writeValueAsBytes(DATE), LocalDate.class));
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskmanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, replica, WINDOW, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testWriteSendsOnlyTheWritingRequestToThePrimary() throws Exception {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        ServletRequestAttributes writeRequest = startRequest(new MockHttpServletRequest(), writeResponse);
+        assertSame(primaryConnection, connection(false));
+        commit();
+
+        // The rest of the writing request reads its own writes
+        assertSame(primaryConnection, connection(true));
+        String until = writeResponse.getHeader(ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER);
+        assertNotNull(until);
+        long remaining = Long.parseLong(until) - System.currentTimeMillis();
+        assertTrue(remaining > 0 && remaining <= WINDOW.toMillis());
+        writeRequest.requestCompleted();
+
+        // Other clients keep reading from the replica
+        startRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        assertSame(replicaConnection, connection(true));
+    }
+
+    @Test
+    void testClientWithinWindowReadsFromThePrimary() throws Exception {
+        startRequest(withHeader(System.currentTimeMillis() + 1000), new MockHttpServletResponse());
+        assertSame(primaryConnection, connection(true));
+    }
+
+    @Test
+    void testExpiredOrInvalidWindowReadsFromTheReplica() throws Exception {
+        startRequest(withHeader(System.currentTimeMillis() - 1), new MockHttpServletResponse());
+        assertSame(replicaConnection, connection(true));
+
+        // Longer than the configured window
+        startRequest(withHeader(System.currentTimeMillis() + WINDOW.toMillis() + 60_000), new MockHttpServletResponse());
+        assertSame(replicaConnection, connection(true));
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.addHeader(ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER, "soon");
+        startRequest(invalid, new MockHttpServletResponse());
+        assertSame(replicaConnection, connection(true));
+    }
+
+    @Test
+    void testWithoutWindowNoHeaderIsSent() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, mock(DataSource.class), Duration.ZERO,
+            Duration.ofSeconds(30));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        startRequest(new MockHttpServletRequest(), response);
+        connection(false);
+        commit();
+
+        assertNull(response.getHeader(ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER));
+    }
+
+    private ServletRequestAttributes startRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        return attributes;
+    }
+
+    private MockHttpServletRequest withHeader(long until) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReplicaRoutingDataSource.READ_YOUR_WRITES_HEADER, Long.toString(until));
+        return request;
+    }
+
+    /**
+     * Fetch a connection in a fresh transaction with the given read-only flag
+     */
+    private Connection connection(boolean readOnly) throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return dataSource.getConnection();
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
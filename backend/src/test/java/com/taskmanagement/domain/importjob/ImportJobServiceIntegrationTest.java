@@ -1,24 +1,35 @@
 package com.taskmanagement.domain.importjob;
 
+import com.taskmanagement.domain.importjob.parser.ParsedUpload;
 import com.taskmanagement.domain.project.Project;
 import com.taskmanagement.domain.project.ProjectRepository;
 import com.taskmanagement.domain.task.Task;
 import com.taskmanagement.domain.task.TaskDependency;
 import com.taskmanagement.domain.task.TaskDependencyRepository;
 import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.domain.task.TaskService;
+import com.taskmanagement.dto.response.DryRunEvent;
 import com.taskmanagement.dto.response.ImportJobResponse;
+import com.taskmanagement.dto.response.ValidationError;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +41,9 @@ class ImportJobServiceIntegrationTest {
     @Autowired
     private ImportJobService importJobService;
 
+    @Autowired
+    private TaskService taskService;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -42,6 +56,9 @@ class ImportJobServiceIntegrationTest {
     @Autowired
     private ImportJobRepository importJobRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Project testProject;
 
     @BeforeEach
@@ -236,6 +253,184 @@ class ImportJobServiceIntegrationTest {
         assertEquals(LocalDate.of(2025, 1, 15), task.getEndDate());
     }
 
+    @Test
+    void testImportGzipCompressedCsv() throws IOException {
+        String csvContent = """
+                task_code,name,start_date,end_date
+                TASK-001,Planning,2025-01-01,2025-01-15
+                TASK-002,Development,2025-01-16,2025-02-28
+                """;
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(csvContent.getBytes(StandardCharsets.UTF_8));
+        }
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "tasks.csv.gz",
+                "application/gzip",
+                compressed.toByteArray()
+        );
+
+        ImportJobResponse response = importJobService.executeImport(file, testProject.getId(), false);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals("CSV", response.getSourceType());
+        assertEquals(2, response.getSummary().getTasksCreated());
+    }
+
+    @Test
+    void testImportZippedCsv() throws IOException {
+        String csvContent = """
+                task_code,name,start_date,end_date
+                TASK-001,Planning,2025-01-01,2025-01-15
+                """;
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(compressed)) {
+            zip.putNextEntry(new ZipEntry("export/tasks.csv"));
+            zip.write(csvContent.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "tasks.zip",
+                "application/zip",
+                compressed.toByteArray()
+        );
+
+        ImportJobResponse response = importJobService.executeImport(file, testProject.getId(), false);
+
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(1, response.getSummary().getTasksCreated());
+    }
+
+    @Test
+    void testErrorsArePersistedAndPaginated() throws IOException {
+        StringBuilder csvContent = new StringBuilder("task_code,name,start_date,end_date\n");
+        for (int i = 1; i <= 150; i++) {
+            csvContent.append(String.format("TASK-%03d,,2025-01-01,2025-01-10%n", i));
+        }
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "tasks.csv",
+                "text/csv",
+                csvContent.toString().getBytes(StandardCharsets.UTF_8)
+        );
+
+        ImportJobResponse response = importJobService.executeImport(file, testProject.getId(), true);
+
+        // Response carries the count and only the first errors
+        assertEquals(150, response.getSummary().getErrorCount());
+        assertEquals(100, response.getErrors().size());
+
+        Page<ValidationError> page = importJobService.getImportJobErrors(
+                response.getId(), "name", "REQUIRED_FIELD", 1, 40);
+        assertEquals(150, page.getTotalElements());
+        assertEquals(40, page.getContent().size());
+        assertEquals(42, page.getContent().get(0).getLineNumber());
+
+        Page<ValidationError> none = importJobService.getImportJobErrors(
+                response.getId(), "start_date", null, 0, 40);
+        assertEquals(0, none.getTotalElements());
+    }
+
+    @Test
+    void testRollbackRevertsCommittedImport() throws IOException {
+        String csvContent1 = """
+                task_code,name,start_date,end_date,progress
+                TASK-001,Initial Name,2025-01-06,2025-01-10,0
+                """;
+
+        importJobService.executeImport(new MockMultipartFile("file", "tasks.csv", "text/csv",
+                csvContent1.getBytes(StandardCharsets.UTF_8)), testProject.getId(), false);
+
+        String csvContent2 = """
+                task_code,name,start_date,end_date,progress,predecessor_task_codes
+                TASK-001,Updated Name,2025-01-06,2025-01-17,50,
+                TASK-002,New Task,2025-01-20,2025-01-24,0,TASK-001
+                """;
+
+        ImportJobResponse response = importJobService.executeImport(new MockMultipartFile("file", "tasks.csv",
+                "text/csv", csvContent2.getBytes(StandardCharsets.UTF_8)), testProject.getId(), false);
+        assertEquals("SUCCESS", response.getStatus());
+
+        entityManager.flush();
+        ImportJobResponse rolledBack = importJobService.rollbackImport(response.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("ROLLED_BACK", rolledBack.getStatus());
+
+        List<Task> tasks = taskRepository.findByProjectId(testProject.getId());
+        assertEquals(1, tasks.size());
+        assertEquals("Initial Name", tasks.get(0).getName());
+        assertEquals((short) 0, tasks.get(0).getProgress());
+        assertEquals(LocalDate.of(2025, 1, 10), tasks.get(0).getEndDate());
+        assertTrue(taskDependencyRepository.findByProjectId(testProject.getId()).isEmpty());
+
+        // A rolled back job cannot be rolled back again
+        assertThrows(IllegalStateException.class, () -> importJobService.rollbackImport(response.getId()));
+    }
+
+    @Test
+    void testRollbackRefusedAfterLaterEdit() throws IOException {
+        String csvContent = """
+                task_code,name,start_date,end_date
+                TASK-001,Imported Name,2025-01-06,2025-01-10
+                TASK-002,Untouched,2025-01-13,2025-01-17
+                """;
+
+        ImportJobResponse response = importJobService.executeImport(new MockMultipartFile("file", "tasks.csv",
+                "text/csv", csvContent.getBytes(StandardCharsets.UTF_8)), testProject.getId(), false);
+        entityManager.flush();
+
+        Task edited = taskRepository.findByProjectIdAndTaskCode(testProject.getId(), "TASK-001").orElseThrow();
+        taskService.updateTask(edited.getId(), Task.builder().name("Edited Name").build(), null);
+        entityManager.flush();
+
+        ImportRollbackConflictException conflict = assertThrows(ImportRollbackConflictException.class,
+                () -> importJobService.rollbackImport(response.getId()));
+        assertEquals(List.of(edited.getId()), conflict.getChangedTaskIds());
+
+        // Nothing was undone
+        entityManager.clear();
+        assertEquals("SUCCESS", importJobService.getImportJob(response.getId()).getStatus());
+        assertEquals(2, taskRepository.findByProjectId(testProject.getId()).size());
+        assertEquals("Edited Name", taskRepository.findById(edited.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testStreamedDryRunStopsAtErrorThreshold() throws IOException {
+        StringBuilder csvContent = new StringBuilder("task_code,name,start_date,end_date\n");
+        for (int i = 1; i <= 50; i++) {
+            csvContent.append(String.format("TASK-%03d,,2025-01-01,2025-01-10%n", i));
+        }
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "tasks.csv",
+                "text/csv",
+                csvContent.toString().getBytes(StandardCharsets.UTF_8)
+        );
+
+        ParsedUpload upload = importJobService.parseUpload(file, testProject.getId());
+        List<ValidationError> streamed = new ArrayList<>();
+
+        DryRunEvent complete = importJobService.streamDryRun(upload, testProject.getId(), 5,
+                error -> streamed.add(error));
+        ImportJobResponse response = complete.getImportJob();
+
+        assertTrue(complete.getAborted());
+        assertEquals("DRY_RUN", response.getStatus());
+        assertEquals(5, streamed.size());
+        assertEquals(5, response.getSummary().getErrorCount());
+        assertEquals(50, response.getSummary().getTotalRows());
+    }
+
     @Test
     void testInvalidFileType() {
         MockMultipartFile file = new MockMultipartFile(
@@ -0,0 +1,132 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import com.taskmanagement.domain.importjob.ImportJobRepository;
+import com.taskmanagement.domain.project.Project;
+import com.taskmanagement.domain.project.ProjectRepository;
+import com.taskmanagement.domain.task.Task;
+import com.taskmanagement.domain.task.TaskDependencyRepository;
+import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.domain.task.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reference resolution above ImportValidator.EXACT_LOOKUP_THRESHOLD, where a Bloom filter over
+ * the project's task codes discards definite misses before the exact lookups
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ImportValidatorIntegrationTest {
+
+    private static final int EXISTING_TASKS = ImportValidator.EXACT_LOOKUP_THRESHOLD + 200;
+
+    @Autowired
+    private ImportValidator importValidator;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up
+        taskDependencyRepository.deleteAll();
+        taskRepository.deleteAll();
+        importJobRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        testProject = projectRepository.save(Project.builder()
+            .name("Large Project")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 12, 31))
+            .status("active")
+            .build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < EXISTING_TASKS; i++) {
+            tasks.add(Task.builder()
+                .project(testProject)
+                .taskCode(code("EXISTING", i))
+                .name("Existing " + i)
+                .startDate(LocalDate.of(2025, 1, 6))
+                .endDate(LocalDate.of(2025, 1, 10))
+                .build());
+        }
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+    }
+
+    @Test
+    void testResolvesReferencesAboveExactLookupThreshold() {
+        // Half of the references exist, the other half do not
+        Set<String> existing = new HashSet<>();
+        List<ParsedTaskData> rows = new ArrayList<>();
+        for (int i = 0; i < EXISTING_TASKS; i++) {
+            if (i % 2 == 0) {
+                existing.add(code("EXISTING", i));
+                rows.add(referencing(code("EXISTING", i)));
+            } else {
+                rows.add(referencing(code("MISSING", i)));
+            }
+        }
+
+        assertEquals(existing, importValidator.resolveExternalReferences(rows, testProject.getId()));
+    }
+
+    @Test
+    void testCachedFilterFollowsProjectDataVersion() {
+        List<ParsedTaskData> rows = new ArrayList<>();
+        for (int i = 0; i <= ImportValidator.EXACT_LOOKUP_THRESHOLD; i++) {
+            rows.add(referencing(code("NEW", i)));
+        }
+        assertTrue(importValidator.resolveExternalReferences(rows, testProject.getId()).isEmpty());
+
+        // The write bumps the data version, so the filter cached above is not reused
+        taskService.createTask(testProject.getId(), Task.builder()
+            .taskCode(code("NEW", 7))
+            .name("New")
+            .startDate(LocalDate.of(2025, 1, 6))
+            .endDate(LocalDate.of(2025, 1, 10))
+            .build());
+
+        assertEquals(Set.of(code("NEW", 7)), importValidator.resolveExternalReferences(rows, testProject.getId()));
+    }
+
+    private ParsedTaskData referencing(String parentTaskCode) {
+        return ParsedTaskData.builder()
+            .lineNumber(2)
+            .name("Child of " + parentTaskCode)
+            .parentTaskCode(parentTaskCode)
+            .build();
+    }
+
+    private String code(String prefix, int i) {
+        return String.format("%s-%05d", prefix, i);
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.domain.importjob.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadSourceTest {
+
+    private static final byte[] CONTENT = "task_code,name\nTASK-001,Planning\n".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testGzipWithinLimitIsReadCompletely() throws IOException {
+        try (UploadSource source = UploadSource.open("tasks.csv.gz", gzip(CONTENT), CONTENT.length)) {
+            assertEquals("tasks.csv", source.getFilename());
+            assertArrayEquals(CONTENT, source.getInputStream().readAllBytes());
+        }
+    }
+
+    @Test
+    void testGzipOverLimitThrowsSizeExceeded() throws IOException {
+        try (UploadSource source = UploadSource.open("tasks.csv.gz", gzip(CONTENT), CONTENT.length - 1)) {
+            assertThrows(DecompressedSizeExceededException.class, () -> source.getInputStream().readAllBytes());
+        }
+    }
+
+    @Test
+    void testZipOverLimitThrowsSizeExceeded() throws IOException {
+        try (UploadSource source = UploadSource.open("tasks.zip", zip("export/tasks.csv", CONTENT), 10)) {
+            assertEquals("tasks.csv", source.getFilename());
+            assertThrows(DecompressedSizeExceededException.class, () -> source.getInputStream().readAllBytes());
+        }
+    }
+
+    private ByteArrayInputStream gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
+    private ByteArrayInputStream zip(String entryName, byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(compressed)) {
+            zip.putNextEntry(new ZipEntry(entryName));
+            zip.write(content);
+            zip.closeEntry();
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+}
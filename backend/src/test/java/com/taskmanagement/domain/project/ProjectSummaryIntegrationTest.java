@@ -0,0 +1,151 @@
+package com.taskmanagement.domain.project;
+
+import com.taskmanagement.domain.task.Task;
+import com.taskmanagement.domain.task.TaskDependencyRepository;
+import com.taskmanagement.domain.task.TaskRepository;
+import com.taskmanagement.domain.task.TaskService;
+import com.taskmanagement.dto.response.ProjectSummary;
+import com.taskmanagement.dto.response.ProjectView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProjectSummaryIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up
+        taskDependencyRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        testProject = projectRepository.save(Project.builder()
+            .name("Summary Project")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 12, 31))
+            .status("active")
+            .build());
+        projectRepository.flush();
+    }
+
+    @Test
+    void testProjectWithoutSummaryRow() {
+        ProjectSummary summary = findSummary();
+
+        assertEquals(0, summary.getTaskCount());
+        assertEquals(Map.of("planned", 0, "in_progress", 0, "done", 0, "blocked", 0, "on_hold", 0),
+            summary.getTasksByStatus());
+        assertEquals(0, summary.getOverdueCount());
+        assertNull(summary.getStartDate());
+        assertNull(summary.getEndDate());
+        assertNull(summary.getAverageProgress());
+        assertEquals(LocalDate.now(), summary.getAsOf());
+    }
+
+    @Test
+    void testRefreshComputesSummary() {
+        projectRepository.refreshSummary(testProject.getId());
+        assertEquals(0, findSummary().getTaskCount());
+
+        Task parent = createTask("Phase", null, "planned", LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 31), 0);
+        createTask("Done", parent, "done", LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), 100);
+        createTask("Late", parent, "in_progress", LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 17), 50);
+        projectRepository.refreshSummary(testProject.getId());
+
+        ProjectSummary summary = findSummary();
+        assertEquals(3, summary.getTaskCount());
+        assertEquals(Map.of("planned", 1, "in_progress", 1, "done", 1, "blocked", 0, "on_hold", 0),
+            summary.getTasksByStatus());
+        // Done tasks are never overdue
+        assertEquals(2, summary.getOverdueCount());
+        assertEquals(LocalDate.of(2025, 1, 6), summary.getStartDate());
+        assertEquals(LocalDate.of(2025, 1, 31), summary.getEndDate());
+        // Average over the two leaves only
+        assertEquals(new BigDecimal("75.00"), summary.getAverageProgress());
+    }
+
+    @Test
+    void testWritesAdjustCountsUntilStaleSummariesAreRefreshed() {
+        projectRepository.refreshSummary(testProject.getId());
+
+        Task first = createTask("First", null, "planned", LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), 0);
+        Task second = createTask("Second", null, "planned", LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 17), 0);
+        taskService.updateTask(first.getId(), Task.builder().status("done").progress((short) 100).build(), null);
+
+        // Counts follow the writes right away; dates and progress wait for the scheduled refresh
+        ProjectSummary adjusted = findSummary();
+        assertEquals(2, adjusted.getTaskCount());
+        assertEquals(Map.of("planned", 1, "in_progress", 0, "done", 1, "blocked", 0, "on_hold", 0),
+            adjusted.getTasksByStatus());
+        assertEquals(1, adjusted.getOverdueCount());
+        assertNull(adjusted.getStartDate());
+        assertNull(adjusted.getAverageProgress());
+
+        assertEquals(1, projectRepository.refreshStaleSummaries());
+        ProjectSummary refreshed = findSummary();
+        assertEquals(adjusted.getTasksByStatus(), refreshed.getTasksByStatus());
+        assertEquals(1, refreshed.getOverdueCount());
+        assertEquals(LocalDate.of(2025, 1, 6), refreshed.getStartDate());
+        assertEquals(LocalDate.of(2025, 1, 17), refreshed.getEndDate());
+        assertEquals(new BigDecimal("50.00"), refreshed.getAverageProgress());
+        assertEquals(0, projectRepository.refreshStaleSummaries());
+
+        taskService.deleteTask(second.getId());
+        ProjectSummary afterDelete = findSummary();
+        assertEquals(1, afterDelete.getTaskCount());
+        assertEquals(0, afterDelete.getTasksByStatus().get("planned"));
+        assertEquals(0, afterDelete.getOverdueCount());
+        assertEquals(1, projectRepository.refreshStaleSummaries());
+        assertEquals(LocalDate.of(2025, 1, 10), findSummary().getEndDate());
+    }
+
+    private Task createTask(String name, Task parent, String status, LocalDate startDate, LocalDate endDate,
+                            int progress) {
+        return taskService.createTask(testProject.getId(), Task.builder()
+            .name(name)
+            .startDate(startDate)
+            .endDate(endDate)
+            .progress((short) progress)
+            .status(status)
+            .isMilestone(false)
+            .parentTask(parent)
+            .build());
+    }
+
+    private ProjectSummary findSummary() {
+        return projectService.getAllProjects().stream()
+            .filter(project -> project.getId().equals(testProject.getId()))
+            .map(ProjectView::getSummary)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.dto.response.TaskView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCursorTest {
+
+    @Test
+    void testIdCursorRoundTrip() {
+        TaskView task = TaskView.builder().id(42L).startDate(LocalDate.of(2025, 1, 6)).build();
+
+        String encoded = TaskCursor.after(task, TaskCursor.SORT_ID).encode();
+        TaskCursor decoded = TaskCursor.decode(encoded, TaskCursor.SORT_ID);
+
+        assertEquals(42L, decoded.getId());
+        assertNull(decoded.getStartDate());
+    }
+
+    @Test
+    void testStartDateCursorRoundTrip() {
+        TaskView task = TaskView.builder().id(7L).startDate(LocalDate.of(2025, 3, 3)).build();
+
+        String encoded = TaskCursor.after(task, TaskCursor.SORT_START_DATE).encode();
+        TaskCursor decoded = TaskCursor.decode(encoded, TaskCursor.SORT_START_DATE);
+
+        assertEquals(7L, decoded.getId());
+        assertEquals(LocalDate.of(2025, 3, 3), decoded.getStartDate());
+    }
+
+    @Test
+    void testCursorForDifferentSortIsRejected() {
+        TaskView task = TaskView.builder().id(7L).startDate(LocalDate.of(2025, 3, 3)).build();
+        String encoded = TaskCursor.after(task, TaskCursor.SORT_START_DATE).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(encoded, TaskCursor.SORT_ID));
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode("not-a-cursor", TaskCursor.SORT_ID));
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode("!!!", TaskCursor.SORT_ID));
+    }
+}
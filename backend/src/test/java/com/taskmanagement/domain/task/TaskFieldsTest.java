@@ -0,0 +1,40 @@
+package com.taskmanagement.domain.task;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFieldsTest {
+
+    @Test
+    void testAbsentFieldsSelectEverything() {
+        assertSame(TaskFields.ALL, TaskFields.parse(null));
+        assertSame(TaskFields.ALL, TaskFields.parse(" "));
+        assertTrue(TaskFields.ALL.includes("notes"));
+    }
+
+    @Test
+    void testParsedFieldsAlwaysIncludeId() {
+        TaskFields fields = TaskFields.parse("name, startDate");
+
+        assertTrue(fields.includes("id"));
+        assertTrue(fields.includes("name"));
+        assertTrue(fields.includes("startDate"));
+        assertFalse(fields.includes("notes"));
+        assertFalse(fields.isAll());
+    }
+
+    @Test
+    void testWithAddsField() {
+        TaskFields fields = TaskFields.parse("name").with(TaskCursor.SORT_START_DATE);
+
+        assertTrue(fields.includes("startDate"));
+        assertFalse(fields.includes("endDate"));
+    }
+
+    @Test
+    void testUnknownFieldThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskFields.parse("name,description"));
+        assertThrows(IllegalArgumentException.class, () -> TaskFields.parse("name,"));
+    }
+}
@@ -0,0 +1,264 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.domain.importjob.ImportJobRepository;
+import com.taskmanagement.domain.importjob.ImportJobService;
+import com.taskmanagement.domain.project.Project;
+import com.taskmanagement.domain.project.ProjectRepository;
+import com.taskmanagement.dto.request.BatchUpdateTasksRequest;
+import com.taskmanagement.dto.request.UpdateTaskRequest;
+import com.taskmanagement.dto.response.ImportJobResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the incrementally maintained rollup columns against the full recomputation
+ * the V13 migration backfilled them with, after each kind of write
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskRollupIntegrationTest {
+
+    // The V13 backfill aggregation, limited to one project and selected instead of written
+    private static final String BACKFILL_ROLLUP_SQL =
+        "WITH RECURSIVE tree (id, path) AS ( " +
+        "SELECT id, ARRAY[id] FROM task WHERE parent_task_id IS NULL AND project_id = ? " +
+        "UNION ALL " +
+        "SELECT c.id, p.path || c.id FROM task c JOIN tree p ON c.parent_task_id = p.id WHERE c.id <> ALL (p.path) " +
+        "), leaf AS ( " +
+        "SELECT t.id, t.start_date, t.end_date, t.progress, t.end_date - t.start_date + 1 AS days, " +
+        "NOT EXISTS (SELECT 1 FROM task x WHERE x.parent_task_id = t.id) AS is_leaf " +
+        "FROM task t " +
+        ") " +
+        "SELECT a.ancestor_id AS id, " +
+        "min(l.start_date) AS start_date, " +
+        "max(l.end_date) AS end_date, " +
+        "sum(l.days) FILTER (WHERE l.is_leaf) AS work_days, " +
+        "sum(l.progress * l.days) FILTER (WHERE l.is_leaf) AS progress_days, " +
+        "CAST(round(sum(l.progress * l.days) FILTER (WHERE l.is_leaf) " +
+        "/ CAST(sum(l.days) FILTER (WHERE l.is_leaf) AS numeric)) AS SMALLINT) AS progress " +
+        "FROM tree d " +
+        "CROSS JOIN LATERAL unnest(d.path) AS a (ancestor_id) " +
+        "JOIN leaf l ON l.id = d.id " +
+        "GROUP BY a.ancestor_id";
+
+    private static final String STORED_ROLLUP_SQL =
+        "SELECT id, rollup_start_date AS start_date, rollup_end_date AS end_date, " +
+        "rollup_work_days AS work_days, rollup_progress_days AS progress_days, rollup_progress AS progress " +
+        "FROM task WHERE project_id = ?";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project testProject;
+
+    private Task root;
+    private Task design;
+    private Task spec;
+    private Task review;
+    private Task build;
+    private Task coding;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up
+        taskDependencyRepository.deleteAll();
+        taskRepository.deleteAll();
+        importJobRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        testProject = projectRepository.save(Project.builder()
+            .name("Rollup Project")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 12, 31))
+            .status("active")
+            .build());
+
+        // root
+        //   design: spec (100%), review (50%)
+        //   build: coding (0%)
+        root = createTask("ROOT", null, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 31), 0);
+        design = createTask("DESIGN", root, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 17), 0);
+        spec = createTask("SPEC", design, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), 100);
+        review = createTask("REVIEW", design, LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 17), 50);
+        build = createTask("BUILD", root, LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 31), 0);
+        coding = createTask("CODING", build, LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 24), 0);
+    }
+
+    @Test
+    void testRollupsAfterCreate() {
+        assertRollupsMatchBackfill();
+
+        Map<Long, List<Object>> stored = storedRollups();
+        // Three five-day leaves at 100%, 50% and 0%
+        assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 31), 15L, 750L, 50L),
+            stored.get(root.getId()));
+        assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 17), 10L, 750L, 75L),
+            stored.get(design.getId()));
+    }
+
+    @Test
+    void testRollupsAfterMoveToNewParent() {
+        taskService.updateTask(review.getId(), Task.builder().parentTask(build).build(), null);
+
+        assertRollupsMatchBackfill();
+        assertEquals(100L, storedRollups().get(design.getId()).get(4));
+        assertEquals(25L, storedRollups().get(build.getId()).get(4));
+    }
+
+    @Test
+    void testRollupsAfterDelete() {
+        taskService.deleteTask(review.getId());
+        assertRollupsMatchBackfill();
+
+        taskService.deleteTaskSubtree(build.getId());
+        assertRollupsMatchBackfill();
+        assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 31), 5L, 500L, 100L),
+            storedRollups().get(root.getId()));
+    }
+
+    @Test
+    void testRollupsAfterBatchUpdate() {
+        taskService.updateTasks(List.of(
+            batchUpdate(spec.getId(), UpdateTaskRequest.builder()
+                .endDate(LocalDate.of(2025, 1, 14))
+                .progress((short) 40)
+                .build()),
+            batchUpdate(coding.getId(), UpdateTaskRequest.builder()
+                .parentTaskId(design.getId())
+                .progress((short) 80)
+                .build()),
+            batchUpdate(review.getId(), UpdateTaskRequest.builder()
+                .startDate(LocalDate.of(2025, 1, 2))
+                .build())));
+
+        assertRollupsMatchBackfill();
+    }
+
+    @Test
+    void testUnchangedAncestorsAreNotRestamped() {
+        Long rootSyncVersion = syncVersion(root.getId());
+        Long designSyncVersion = syncVersion(design.getId());
+
+        // Notes do not take part in any rollup
+        taskService.updateTask(spec.getId(), Task.builder().notes("Reviewed").build(), null);
+
+        assertRollupsMatchBackfill();
+        assertEquals(rootSyncVersion, syncVersion(root.getId()));
+        assertEquals(designSyncVersion, syncVersion(design.getId()));
+    }
+
+    @Test
+    void testRollupsAfterImportRollback() throws IOException {
+        Map<Long, List<Object>> before = storedRollups();
+
+        // Updates an existing leaf, adds a leaf under an existing parent and adds a new subtree
+        String csvContent = """
+                task_code,name,start_date,end_date,progress,parent_task_code
+                SPEC,Spec,2025-01-06,2025-02-07,20,DESIGN
+                TESTING,Testing,2025-02-03,2025-02-14,0,BUILD
+                RELEASE,Release,2025-02-17,2025-02-28,0,
+                NOTES,Release Notes,2025-02-17,2025-02-21,60,RELEASE
+                """;
+        ImportJobResponse response = importJobService.executeImport(new MockMultipartFile("file", "tasks.csv",
+            "text/csv", csvContent.getBytes(StandardCharsets.UTF_8)), testProject.getId(), false);
+        assertEquals("SUCCESS", response.getStatus());
+        entityManager.flush();
+        assertRollupsMatchBackfill();
+
+        importJobService.rollbackImport(response.getId());
+        entityManager.flush();
+        assertRollupsMatchBackfill();
+        assertEquals(before, storedRollups());
+    }
+
+    private Task createTask(String code, Task parent, LocalDate startDate, LocalDate endDate, int progress) {
+        return taskService.createTask(testProject.getId(), Task.builder()
+            .taskCode(code)
+            .name(code)
+            .startDate(startDate)
+            .endDate(endDate)
+            .progress((short) progress)
+            .status("planned")
+            .isMilestone(false)
+            .parentTask(parent)
+            .build());
+    }
+
+    private BatchUpdateTasksRequest.TaskUpdate batchUpdate(Long id, UpdateTaskRequest changes) {
+        return BatchUpdateTasksRequest.TaskUpdate.builder().id(id).changes(changes).build();
+    }
+
+    private Long syncVersion(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT sync_version FROM task WHERE id = ?", Long.class, taskId);
+    }
+
+    private void assertRollupsMatchBackfill() {
+        Map<Long, List<Object>> expected = rollups(BACKFILL_ROLLUP_SQL);
+        Map<Long, List<Object>> stored = storedRollups();
+        assertEquals(expected.keySet(), stored.keySet());
+        expected.forEach((id, values) -> assertEquals(values, stored.get(id), "Rollups of task " + id));
+    }
+
+    private Map<Long, List<Object>> storedRollups() {
+        return rollups(STORED_ROLLUP_SQL);
+    }
+
+    private Map<Long, List<Object>> rollups(String sql) {
+        Map<Long, List<Object>> rollups = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            rollups.put(rs.getLong("id"), Arrays.asList(
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                longValue(rs, "work_days"),
+                longValue(rs, "progress_days"),
+                longValue(rs, "progress")));
+        }, testProject.getId());
+        return rollups;
+    }
+
+    private Long longValue(ResultSet rs, String column) throws SQLException {
+        Number value = (Number) rs.getObject(column);
+        return value != null ? value.longValue() : null;
+    }
+}
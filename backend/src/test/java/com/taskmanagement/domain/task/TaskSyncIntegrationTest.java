@@ -0,0 +1,192 @@
+package com.taskmanagement.domain.task;
+
+import com.taskmanagement.domain.importjob.ImportJobRepository;
+import com.taskmanagement.domain.importjob.ImportJobService;
+import com.taskmanagement.domain.project.Project;
+import com.taskmanagement.domain.project.ProjectRepository;
+import com.taskmanagement.dto.response.ImportJobResponse;
+import com.taskmanagement.dto.response.TaskDependencyView;
+import com.taskmanagement.dto.response.TaskSyncResponse;
+import com.taskmanagement.dto.response.TaskView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskSyncIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up
+        taskDependencyRepository.deleteAll();
+        taskRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+        importJobRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        testProject = projectRepository.save(Project.builder()
+            .name("Sync Project")
+            .startDate(LocalDate.of(2025, 1, 1))
+            .endDate(LocalDate.of(2025, 12, 31))
+            .status("active")
+            .build());
+        projectRepository.flush();
+    }
+
+    @Test
+    void testChangesFollowEveryKindOfWrite() throws IOException {
+        long start = changesSince(0).getVersion();
+
+        // Create
+        Task phase = createTask("PHASE", null);
+        Task design = createTask("DESIGN", phase);
+        Task review = createTask("REVIEW", null);
+        TaskDependency dependency = taskService.createDependency(review.getId(), design.getId(), "FS");
+
+        TaskSyncResponse created = changesSince(start);
+        assertFalse(created.isReset());
+        assertEquals(Set.of(phase.getId(), design.getId(), review.getId()), taskIds(created));
+        assertEquals(Set.of(dependency.getId()), dependencyIds(created));
+        assertTrue(created.getDeletedTaskIds().isEmpty());
+
+        // Update
+        taskService.updateTask(review.getId(), Task.builder().name("Design Review").build(), null);
+
+        TaskSyncResponse updated = changesSince(created.getVersion());
+        assertEquals(Set.of(review.getId()), taskIds(updated));
+        assertTrue(updated.getDependencies().isEmpty());
+
+        // Delete, taking the dependency along
+        taskService.deleteTask(review.getId());
+
+        TaskSyncResponse deleted = changesSince(updated.getVersion());
+        assertTrue(deleted.getTasks().isEmpty());
+        assertEquals(List.of(review.getId()), deleted.getDeletedTaskIds());
+        assertEquals(List.of(dependency.getId()), deleted.getDeletedDependencyIds());
+
+        // Subtree delete
+        taskService.deleteTaskSubtree(phase.getId());
+
+        TaskSyncResponse subtreeDeleted = changesSince(deleted.getVersion());
+        assertTrue(subtreeDeleted.getTasks().isEmpty());
+        assertEquals(Set.of(phase.getId(), design.getId()), Set.copyOf(subtreeDeleted.getDeletedTaskIds()));
+
+        // Import, then its rollback
+        String csvContent = """
+                task_code,name,start_date,end_date
+                BUILD,Build,2025-01-06,2025-01-17
+                """;
+        ImportJobResponse response = importJobService.executeImport(new MockMultipartFile("file", "tasks.csv",
+            "text/csv", csvContent.getBytes(StandardCharsets.UTF_8)), testProject.getId(), false);
+        entityManager.flush();
+
+        TaskSyncResponse imported = changesSince(subtreeDeleted.getVersion());
+        assertEquals(1, imported.getTasks().size());
+        Long buildId = imported.getTasks().get(0).getId();
+        assertEquals("BUILD", imported.getTasks().get(0).getTaskCode());
+
+        importJobService.rollbackImport(response.getId());
+        entityManager.flush();
+
+        TaskSyncResponse rolledBack = changesSince(imported.getVersion());
+        assertTrue(rolledBack.getTasks().isEmpty());
+        assertEquals(List.of(buildId), rolledBack.getDeletedTaskIds());
+
+        // Nothing happened since the latest version
+        TaskSyncResponse none = changesSince(rolledBack.getVersion());
+        assertTrue(none.getTasks().isEmpty());
+        assertTrue(none.getDeletedTaskIds().isEmpty());
+    }
+
+    @Test
+    void testSinceBeforePrunedTombstonesGetsFullResync() {
+        Task kept = createTask("KEPT", null);
+        Task removed = createTask("REMOVED", null);
+        long beforeDelete = changesSince(0).getVersion();
+        taskService.deleteTask(removed.getId());
+        long afterDelete = changesSince(0).getVersion();
+        taskService.updateTask(kept.getId(), Task.builder().notes("Still here").build(), null);
+
+        assertEquals(0, tombstoneRepository.pruneDeletedBefore(OffsetDateTime.now().minusDays(1)));
+        assertEquals(1, tombstoneRepository.pruneDeletedBefore(OffsetDateTime.now().plusMinutes(1)));
+
+        // The deletion is gone, so an older client has to replace its cache
+        TaskSyncResponse resync = changesSince(beforeDelete);
+        assertTrue(resync.isReset());
+        assertEquals(Set.of(kept.getId()), taskIds(resync));
+        assertTrue(resync.getDeletedTaskIds().isEmpty());
+
+        // Clients at or after the pruned deletion still get deltas
+        TaskSyncResponse delta = changesSince(afterDelete);
+        assertFalse(delta.isReset());
+        assertEquals(Set.of(kept.getId()), taskIds(delta));
+    }
+
+    private Task createTask(String code, Task parent) {
+        return taskService.createTask(testProject.getId(), Task.builder()
+            .taskCode(code)
+            .name(code)
+            .startDate(LocalDate.of(2025, 1, 6))
+            .endDate(LocalDate.of(2025, 1, 10))
+            .progress((short) 0)
+            .status("planned")
+            .isMilestone(false)
+            .parentTask(parent)
+            .build());
+    }
+
+    private TaskSyncResponse changesSince(long since) {
+        return taskService.getChangesSince(testProject.getId(), since);
+    }
+
+    private Set<Long> taskIds(TaskSyncResponse response) {
+        return response.getTasks().stream().map(TaskView::getId).collect(Collectors.toSet());
+    }
+
+    private Set<Long> dependencyIds(TaskSyncResponse response) {
+        return response.getDependencies().stream().map(TaskDependencyView::getId).collect(Collectors.toSet());
+    }
+}
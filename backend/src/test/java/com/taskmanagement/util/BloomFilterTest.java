@@ -0,0 +1,51 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testAddedValuesAreAlwaysReported() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("TASK-" + i);
+        }
+
+        // No false negatives
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("TASK-" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("TASK-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Allow generous headroom over the 1% target
+        assertTrue(falsePositives < 300, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+        assertFalse(filter.mightContain("TASK-001"));
+    }
+
+    @Test
+    void testInvalidFalsePositiveRateThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionETagTest {
+
+    @Test
+    void testFormatsStrongETag() {
+        assertEquals("\"7\"", VersionETag.of(7L));
+    }
+
+    @Test
+    void testParsesStrongWeakAndBareVersions() {
+        assertEquals(7L, VersionETag.parseIfMatch("\"7\""));
+        assertEquals(7L, VersionETag.parseIfMatch("W/\"7\""));
+        assertEquals(7L, VersionETag.parseIfMatch(" 7 "));
+    }
+
+    @Test
+    void testAbsentOrWildcardMeansNoCheck() {
+        assertNull(VersionETag.parseIfMatch(null));
+        assertNull(VersionETag.parseIfMatch(""));
+        assertNull(VersionETag.parseIfMatch("*"));
+    }
+
+    @Test
+    void testInvalidValueThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> VersionETag.parseIfMatch("\"abc\""));
+        assertThrows(IllegalArgumentException.class, () -> VersionETag.parseIfMatch("\"1\", \"2\""));
+    }
+}
@@ -106,6 +106,20 @@ export default function HomePage() {
                     </span>
                   )}
                 </div>
+                {project.summary && project.summary.taskCount > 0 && (
+                  <div className="mt-4 flex items-center justify-between text-sm text-gray-600">
+                    <span>
+                      {project.summary.tasksByStatus.done}/{project.summary.taskCount} done
+                      {project.summary.averageProgress != null &&
+                        ` · ${Math.round(project.summary.averageProgress)}%`}
+                    </span>
+                    {project.summary.overdueCount > 0 && (
+                      <span className="px-2 py-1 rounded bg-red-100 text-red-800">
+                        {project.summary.overdueCount} overdue
+                      </span>
+                    )}
+                  </div>
+                )}
               </div>
             ))}
           </div>
@@ -1,8 +1,8 @@
 'use client';
 
 import React, { useEffect, useRef, useState } from 'react';
-import { Task, TaskDependency } from '@/lib/types';
-import { tasksApi, dependenciesApi } from '@/lib/api';
+import { Task, TaskChangeMessage, TaskDependency } from '@/lib/types';
+import { tasksApi } from '@/lib/api';
 import { tasksToGanttData, GanttData } from '@/lib/utils/ganttAdapter';
 
 // Note: TOAST UI Gantt will be imported dynamically to avoid SSR issues
@@ -33,26 +33,59 @@ export default function GanttChart({
     loadData();
   }, [projectId]);
 
+  // Apply changes pushed by the server instead of polling the task list
+  useEffect(() => {
+    return tasksApi.subscribeChanges(projectId, applyChange);
+  }, [projectId]);
+
+  // Keep the chart in sync with local task and dependency state
+  useEffect(() => {
+    setGanttData(tasksToGanttData(tasks, dependencies));
+  }, [tasks, dependencies]);
+
+  const applyChange = (change: TaskChangeMessage) => {
+    switch (change.type) {
+      case 'tasks.created':
+      case 'tasks.updated': {
+        const changed = new Map((change.tasks ?? []).map(t => [t.id, t]));
+        setTasks(prev => [
+          ...prev.map(t => changed.get(t.id) ?? t),
+          ...Array.from(changed.values()).filter(t => !prev.some(p => p.id === t.id)),
+        ]);
+        break;
+      }
+      case 'tasks.deleted': {
+        const deleted = new Set(change.taskIds ?? []);
+        setTasks(prev => prev.filter(t => !deleted.has(t.id)));
+        setDependencies(prev =>
+          prev.filter(d => !deleted.has(d.taskId) && !deleted.has(d.predecessorTaskId))
+        );
+        break;
+      }
+      case 'dependency.created':
+        if (change.dependency) {
+          const created = change.dependency;
+          setDependencies(prev => [...prev.filter(d => d.id !== created.id), created]);
+        }
+        break;
+      case 'dependency.deleted':
+        setDependencies(prev => prev.filter(d => d.id !== change.dependency?.id));
+        break;
+      case 'project.reload':
+        loadData();
+        break;
+    }
+  };
+
   const loadData = async () => {
     try {
       setLoading(true);
       setError(null);
 
-      // Load tasks
-      const tasksData = await tasksApi.getByProject(projectId);
+      // Load tasks and their dependencies in one request
+      const { tasks: tasksData, dependencies: allDeps } = await tasksApi.getGantt(projectId);
       setTasks(tasksData);
-
-      // Load all dependencies for these tasks
-      const allDeps: TaskDependency[] = [];
-      for (const task of tasksData) {
-        const deps = await dependenciesApi.getByTask(task.id);
-        allDeps.push(...deps);
-      }
       setDependencies(allDeps);
-
-      // Convert to Gantt format
-      const ganttTasks = tasksToGanttData(tasksData, allDeps);
-      setGanttData(ganttTasks);
     } catch (err) {
       console.error('Failed to load Gantt data:', err);
       setError('Failed to load tasks');
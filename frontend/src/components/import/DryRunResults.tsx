@@ -11,6 +11,8 @@ interface DryRunResultsProps {
 
 export default function DryRunResults({ importJob, onProceed, onCancel }: DryRunResultsProps) {
   const hasErrors = importJob.errors && importJob.errors.length > 0;
+  const errorCount = importJob.summary.errorCount ?? importJob.errors?.length ?? 0;
+  const shownErrors = importJob.errors?.length ?? 0;
 
   return (
     <div className="bg-white rounded-lg shadow p-6">
@@ -38,6 +40,11 @@ export default function DryRunResults({ importJob, onProceed, onCancel }: DryRun
       {hasErrors && (
         <div className="mb-6">
           <h3 className="text-lg font-medium mb-2 text-red-600">Validation Errors</h3>
+          {errorCount > shownErrors && (
+            <p className="text-sm text-gray-600 mb-2">
+              Showing first {shownErrors} of {errorCount} errors. Download the error report for the full list.
+            </p>
+          )}
           <div className="bg-red-50 border border-red-200 rounded-lg p-4 max-h-96 overflow-y-auto">
             <table className="min-w-full text-sm">
               <thead>
@@ -7,7 +7,7 @@ interface FileUploadProps {
   accept?: string;
 }
 
-export default function FileUpload({ onFileSelect, accept = '.csv,.xlsx' }: FileUploadProps) {
+export default function FileUpload({ onFileSelect, accept = '.csv,.xlsx,.gz,.zip' }: FileUploadProps) {
   const fileInputRef = useRef<HTMLInputElement>(null);
 
   const handleFileChange = (e: React.ChangeEvent<HTMLInputElement>) => {
@@ -55,7 +55,7 @@ export default function FileUpload({ onFileSelect, accept = '.csv,.xlsx' }: File
           </p>
           <p className="text-sm text-gray-500 mt-1">or click to browse</p>
         </div>
-        <p className="text-xs text-gray-400">Supported formats: .csv, .xlsx (max 10MB)</p>
+        <p className="text-xs text-gray-400">Supported formats: .csv, .xlsx, .csv.gz, .zip (max 10MB)</p>
       </div>
     </div>
   );
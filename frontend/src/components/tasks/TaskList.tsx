@@ -54,7 +54,7 @@ export default function TaskList({ projectId, onTaskUpdate, onTaskDelete }: Task
     if (!editingId) return;
 
     try {
-      const updated = await tasksApi.update(editingId, editValues);
+      const updated = await tasksApi.update(editingId, editValues, editValues.version);
       setTasks(prev => prev.map(t => (t.id === editingId ? updated : t)));
       setEditingId(null);
       setEditValues({});
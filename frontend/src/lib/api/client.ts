@@ -3,7 +3,7 @@
  */
 import axios from 'axios';
 
-const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080/api';
+export const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080/api';
 
 export const apiClient = axios.create({
   baseURL: API_BASE_URL,
@@ -13,10 +13,16 @@ export const apiClient = axios.create({
   timeout: 30000, // 30 seconds
 });
 
+// After a write, the API may ask for reads from the primary database for a while (epoch milliseconds)
+const READ_YOUR_WRITES_HEADER = 'X-Read-Your-Writes-Until';
+let readYourWritesUntil: string | undefined;
+
 // Request interceptor for logging and auth (if needed in future)
 apiClient.interceptors.request.use(
   (config) => {
-    // Add any request headers or logging here
+    if (readYourWritesUntil && Number(readYourWritesUntil) > Date.now()) {
+      config.headers.set(READ_YOUR_WRITES_HEADER, readYourWritesUntil);
+    }
     return config;
   },
   (error) => {
@@ -27,6 +33,10 @@ apiClient.interceptors.request.use(
 // Response interceptor for error handling
 apiClient.interceptors.response.use(
   (response) => {
+    const until = response.headers[READ_YOUR_WRITES_HEADER.toLowerCase()];
+    if (until) {
+      readYourWritesUntil = until;
+    }
     return response;
   },
   (error) => {
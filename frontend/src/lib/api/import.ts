@@ -1,8 +1,8 @@
 /**
  * Import API endpoints
  */
-import apiClient from './client';
-import { ImportJob, ApiResponse } from '../types';
+import apiClient, { API_BASE_URL } from './client';
+import { ImportJob, ApiResponse, ValidationError, DryRunEvent } from '../types';
 
 export const importApi = {
   /**
@@ -30,6 +30,51 @@ export const importApi = {
     return response.data.data;
   },
 
+  /**
+   * Dry-run a file, receiving errors and progress as NDJSON events while validation runs.
+   * With maxErrors > 0 the server reports at most that many errors and stops at the next one (complete.aborted).
+   */
+  dryRunStream: async (
+    file: File,
+    projectId: number,
+    onEvent: (event: DryRunEvent) => void,
+    maxErrors: number = 0
+  ): Promise<void> => {
+    const formData = new FormData();
+    formData.append('file', file);
+    formData.append('projectId', projectId.toString());
+    formData.append('maxErrors', maxErrors.toString());
+
+    const response = await fetch(`${API_BASE_URL}/import-jobs/dry-run/stream`, {
+      method: 'POST',
+      body: formData,
+    });
+    if (!response.ok || !response.body) {
+      throw new Error(`Dry-run failed with status ${response.status}`);
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) {
+        break;
+      }
+      buffer += decoder.decode(value, { stream: true });
+
+      let newline;
+      while ((newline = buffer.indexOf('\n')) >= 0) {
+        const line = buffer.slice(0, newline).trim();
+        buffer = buffer.slice(newline + 1);
+        if (line) {
+          onEvent(JSON.parse(line) as DryRunEvent);
+        }
+      }
+    }
+  },
+
   /**
    * Get import job status
    */
@@ -38,6 +83,28 @@ export const importApi = {
     return response.data.data;
   },
 
+  /**
+   * Roll back a committed import job
+   */
+  rollback: async (id: number): Promise<ImportJob> => {
+    const response = await apiClient.post<ApiResponse<ImportJob>>(`/import-jobs/${id}/rollback`);
+    return response.data.data;
+  },
+
+  /**
+   * Get a page of validation errors, optionally filtered by field or error code
+   */
+  getErrors: async (
+    id: number,
+    params: { field?: string; errorCode?: string; page?: number; size?: number } = {}
+  ): Promise<ApiResponse<ValidationError[]>> => {
+    const response = await apiClient.get<ApiResponse<ValidationError[]>>(
+      `/import-jobs/${id}/validation-errors`,
+      { params }
+    );
+    return response.data;
+  },
+
   /**
    * Download error report CSV
    */
@@ -5,3 +5,4 @@ export { apiClient } from './client';
 export { projectsApi } from './projects';
 export { tasksApi, dependenciesApi } from './tasks';
 export { importApi } from './import';
+export { workloadApi } from './workload';
@@ -32,9 +32,12 @@ export const projectsApi = {
 
   /**
    * Update project
+   * With version, the update is rejected with 409 if the project was changed since it was read
    */
-  update: async (id: number, data: Partial<Project>): Promise<Project> => {
-    const response = await apiClient.patch<ApiResponse<Project>>(`/projects/${id}`, data);
+  update: async (id: number, data: Partial<Project>, version?: number): Promise<Project> => {
+    const response = await apiClient.patch<ApiResponse<Project>>(`/projects/${id}`, data, {
+      headers: version !== undefined ? { 'If-Match': `"${version}"` } : undefined,
+    });
     return response.data.data;
   },
 
@@ -1,8 +1,8 @@
 /**
  * Task API endpoints
  */
-import apiClient from './client';
-import { Task, TaskDependency, ApiResponse } from '../types';
+import apiClient, { API_BASE_URL } from './client';
+import { Task, TaskDependency, GanttPayload, WbsNode, TaskSyncPayload, BatchUpdateResult, TaskChangeMessage, ApiResponse } from '../types';
 
 export const tasksApi = {
   /**
@@ -13,7 +13,11 @@ export const tasksApi = {
     params?: {
       from?: string;
       to?: string;
-      status?: string;
+      status?: string; // Comma-separated for several statuses
+      assignee?: string;
+      milestone?: boolean;
+      parentTaskId?: number;
+      fields?: string; // Comma-separated task properties to return (id is always included); omitted ones are absent
     }
   ): Promise<Task[]> => {
     const response = await apiClient.get<ApiResponse<Task[]>>(
@@ -23,6 +27,78 @@ export const tasksApi = {
     return response.data.data;
   },
 
+  /**
+   * Get tasks and dependency edges of a project in one call
+   */
+  getGantt: async (projectId: number, fields?: string): Promise<GanttPayload> => {
+    const response = await apiClient.get<ApiResponse<GanttPayload>>(
+      `/projects/${projectId}/gantt`,
+      { params: fields ? { fields } : {} }
+    );
+    return response.data.data;
+  },
+
+  /**
+   * Get the task hierarchy of a project, or one subtree of it, with rolled-up dates and progress
+   */
+  getWbs: async (projectId: number, rootTaskId?: number): Promise<WbsNode[]> => {
+    const response = await apiClient.get<ApiResponse<WbsNode[]>>(`/projects/${projectId}/wbs`, {
+      params: rootTaskId !== undefined ? { rootTaskId } : {},
+    });
+    return response.data.data;
+  },
+
+  /**
+   * Search tasks by code, name, assignee and notes, most relevant first
+   * Searches all projects when projectIds is omitted; paging info is in meta.page
+   */
+  search: async (
+    q: string,
+    params: { projectIds?: number[]; page?: number; size?: number } = {}
+  ): Promise<ApiResponse<Task[]>> => {
+    const { projectIds, ...paging } = params;
+    const response = await apiClient.get<ApiResponse<Task[]>>('/tasks/search', {
+      params: { q, projectId: projectIds?.join(','), ...paging },
+    });
+    return response.data;
+  },
+
+  /**
+   * Get tasks and dependencies changed or deleted since a project data version (0 for everything)
+   */
+  getChangesSince: async (projectId: number, since: number): Promise<TaskSyncPayload> => {
+    const response = await apiClient.get<ApiResponse<TaskSyncPayload>>(
+      `/projects/${projectId}/changes`,
+      { params: { since } }
+    );
+    return response.data.data;
+  },
+
+  /**
+   * Subscribe to committed task and dependency changes of a project (Server-Sent Events)
+   * The browser reconnects automatically; returns a function that closes the stream
+   */
+  subscribeChanges: (
+    projectId: number,
+    onChange: (change: TaskChangeMessage) => void
+  ): (() => void) => {
+    const source = new EventSource(`${API_BASE_URL}/projects/${projectId}/events`);
+    const types: TaskChangeMessage['type'][] = [
+      'tasks.created',
+      'tasks.updated',
+      'tasks.deleted',
+      'dependency.created',
+      'dependency.deleted',
+      'project.reload',
+    ];
+    types.forEach((type) =>
+      source.addEventListener(type, (event) => {
+        onChange(JSON.parse((event as MessageEvent).data) as TaskChangeMessage);
+      })
+    );
+    return () => source.close();
+  },
+
   /**
    * Get task by ID
    */
@@ -44,17 +120,43 @@ export const tasksApi = {
 
   /**
    * Update task
+   * With version, the update is rejected with 409 if the task was changed since it was read
+   */
+  update: async (id: number, data: Partial<Task>, version?: number): Promise<Task> => {
+    const response = await apiClient.patch<ApiResponse<Task>>(`/tasks/${id}`, data, {
+      headers: version !== undefined ? { 'If-Match': `"${version}"` } : undefined,
+    });
+    return response.data.data;
+  },
+
+  /**
+   * Update several tasks in one request (e.g. multi-select drag in the Gantt chart)
+   * Items that fail validation are reported individually and not applied
    */
-  update: async (id: number, data: Partial<Task>): Promise<Task> => {
-    const response = await apiClient.patch<ApiResponse<Task>>(`/tasks/${id}`, data);
+  updateMany: async (
+    updates: Array<{ id: number; changes: Partial<Task>; version?: number }>
+  ): Promise<BatchUpdateResult[]> => {
+    const response = await apiClient.patch<ApiResponse<BatchUpdateResult[]>>('/tasks', { updates });
     return response.data.data;
   },
 
   /**
    * Delete task
+   * With subtree, all subtasks are deleted as well (required when the task has subtasks)
    */
-  delete: async (id: number): Promise<void> => {
-    await apiClient.delete(`/tasks/${id}`);
+  delete: async (id: number, subtree: boolean = false): Promise<void> => {
+    await apiClient.delete(`/tasks/${id}`, { params: subtree ? { subtree } : undefined });
+  },
+
+  /**
+   * Delete several tasks, each together with its subtasks
+   */
+  deleteMany: async (ids: number[]): Promise<number> => {
+    const response = await apiClient.post<ApiResponse<{ deletedCount: number }>>(
+      '/tasks/bulk-delete',
+      { ids }
+    );
+    return response.data.data.deletedCount;
   },
 };
 
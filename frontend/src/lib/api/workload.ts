@@ -0,0 +1,18 @@
+/**
+ * Workload API endpoints
+ */
+import apiClient from './client';
+import { WorkloadEntry, ApiResponse } from '../types';
+
+export const workloadApi = {
+  /**
+   * Get working days and task counts per assignee and week across projects
+   * from/to are ISO dates (inclusive, at most 366 days apart)
+   */
+  get: async (projectIds: number[], from: string, to: string): Promise<WorkloadEntry[]> => {
+    const response = await apiClient.get<ApiResponse<WorkloadEntry[]>>('/workload', {
+      params: { projectId: projectIds.join(','), from, to },
+    });
+    return response.data.data;
+  },
+};
@@ -10,6 +10,18 @@ export interface Project {
   status: 'active' | 'archived';
   createdAt: string;
   updatedAt: string;
+  version: number; // Optimistic lock version, sent back as If-Match on update
+  summary?: ProjectSummary; // Included by the project list only
+}
+
+export interface ProjectSummary {
+  taskCount: number;
+  tasksByStatus: Record<Task['status'], number>;
+  overdueCount: number; // Not done and ending before asOf
+  startDate?: string; // Earliest task start
+  endDate?: string; // Latest task end
+  averageProgress?: number; // Over leaf tasks, 0-100
+  asOf: string;
 }
 
 export interface Task {
@@ -27,6 +39,10 @@ export interface Task {
   notes?: string;
   createdAt: string;
   updatedAt: string;
+  version: number; // Optimistic lock version, sent back as If-Match on update
+  rollupStartDate?: string; // Subtree rollups (the task included), on read models only
+  rollupEndDate?: string;
+  rollupProgress?: number; // Leaf progress weighted by leaf duration
 }
 
 export interface TaskDependency {
@@ -36,10 +52,64 @@ export interface TaskDependency {
   type: 'FS' | 'SS' | 'FF' | 'SF';
 }
 
+export interface TaskChangeMessage {
+  type:
+    | 'tasks.created'
+    | 'tasks.updated'
+    | 'tasks.deleted'
+    | 'dependency.created'
+    | 'dependency.deleted'
+    | 'project.reload';
+  projectId: number;
+  tasks?: Task[]; // tasks.created, tasks.updated
+  taskIds?: number[]; // tasks.deleted
+  dependency?: TaskDependency; // dependency.created, dependency.deleted
+  version?: number; // Project data version after the change
+}
+
+export interface BatchUpdateResult {
+  id: number;
+  success: boolean;
+  task?: Task; // Present when the update was applied
+  error?: {
+    code: string;
+    message: string;
+  };
+}
+
+export interface GanttPayload {
+  tasks: Task[];
+  dependencies: TaskDependency[]; // Edges reference tasks by id
+}
+
+export interface WbsNode {
+  task: Task;
+  depth: number; // 0 for the tree roots; subtree rollups are on task
+  childCount: number;
+  descendantCount: number;
+  children: WbsNode[];
+}
+
+export interface TaskSyncPayload {
+  version: number; // Pass as since on the next call
+  reset: boolean; // Full resync (since predates the kept deletions): replace the cache with tasks and dependencies
+  tasks: Task[]; // Created or updated since the given version
+  dependencies: TaskDependency[]; // Created since the given version
+  deletedTaskIds: number[];
+  deletedDependencyIds: number[];
+}
+
+export interface WorkloadEntry {
+  assignee: string;
+  weekStart: string; // Monday of the ISO week
+  workingDays: number; // Sum over tasks of their working days in the week
+  taskCount: number;
+}
+
 export interface ImportJob {
   id: number;
   sourceType: 'CSV' | 'Excel';
-  status: 'PENDING' | 'DRY_RUN' | 'SUCCESS' | 'PARTIAL' | 'FAILED';
+  status: 'PENDING' | 'DRY_RUN' | 'SUCCESS' | 'PARTIAL' | 'FAILED' | 'ROLLED_BACK';
   executedAt: string;
   summary: ImportSummary;
   errors?: ValidationError[];
@@ -52,6 +122,7 @@ export interface ImportSummary {
   tasksCreated: number;
   tasksUpdated: number;
   dependenciesCreated: number;
+  errorCount?: number;
 }
 
 export interface ValidationError {
@@ -62,11 +133,31 @@ export interface ValidationError {
   errorMessage?: string;
 }
 
+export interface DryRunEvent {
+  type: 'started' | 'error' | 'progress' | 'complete' | 'failed';
+  rowsValidated?: number;
+  totalRows?: number;
+  errorCount?: number;
+  error?: ValidationError;
+  aborted?: boolean;
+  importJob?: ImportJob;
+  message?: string;
+}
+
+export interface PageInfo {
+  number: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
 export interface ApiResponse<T> {
   data: T;
   meta?: {
     requestId?: string;
     timestamp?: string;
+    page?: PageInfo;
+    nextCursor?: string;
   };
   errors?: Array<{
     code: string;